@@ -0,0 +1,52 @@
+package com.example.backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+@RequiredArgsConstructor
+public class CacheConfig {
+
+    public static final String WEATHER_CACHE = "weather";
+    public static final String FARMING_NEWS_CACHE = "farmingNews";
+
+    private final WeatherConfig weatherConfig;
+
+    @Value("${news.cache.timeout-minutes:30}")
+    private int newsCacheTimeoutMinutes;
+
+    @Value("${news.cache.max-entries:100}")
+    private int newsCacheMaxEntries;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        // Static manager: only the caches registered below exist, each with its own bound and TTL
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(WEATHER_CACHE, Caffeine.newBuilder()
+                .maximumSize(weatherConfig.getCacheMaxEntries())
+                .expireAfterWrite(Duration.ofMinutes(weatherConfig.getCacheTimeoutMinutes()))
+                .recordStats()
+                .build());
+
+        cacheManager.registerCustomCache(FARMING_NEWS_CACHE, Caffeine.newBuilder()
+                .maximumSize(newsCacheMaxEntries)
+                .expireAfterWrite(Duration.ofMinutes(newsCacheTimeoutMinutes))
+                .recordStats()
+                .build());
+
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
@@ -58,6 +58,9 @@ public class SecurityConfig {
         config.setAllowedOriginPatterns(List.of("http://localhost:*", "http://127.0.0.1:*"));
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        // Lets cross-origin clients read validators; they revalidate with If-None-Match on the GET weather
+        // routes (a conditional POST is answered 412 when the precondition fails, never 304)
+        config.setExposedHeaders(List.of("ETag", "Last-Modified"));
         config.setAllowCredentials(false);
         config.setMaxAge(3600L);
 
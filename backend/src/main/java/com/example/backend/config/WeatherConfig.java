@@ -1,13 +1,21 @@
 package com.example.backend.config;
 
+import com.example.backend.feature.weather.WeatherProvider;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
 
 @Configuration
 @ConfigurationProperties(prefix = "weather")
@@ -33,10 +41,62 @@ public class WeatherConfig {
     private int forecastDays = 5; // Free tier limit
     private String defaultLanguage = "bn";
     private int cacheTimeoutMinutes = 15;
+    private int cacheMaxEntries = 500; // 36 districts x request types x languages, with headroom
 
+    // Provider fan-out: a lookup may take at most requestBudgetMs in total; the next provider
+    // is started whenever the running one fails or is still pending after hedgeDelayMs
+    private int providerTimeoutMs = 5000;
+    private int requestBudgetMs = 5000;
+    private int hedgeDelayMs = 1200;
+    private int fetchThreads = 16;
+    // Provider health: ranking window and circuit breaker
+    private int healthWindowSize = 20;
+    private int breakerFailureThreshold = 5;
+    private long breakerOpenMs = 60_000;
+    // Shared deadline for the parallel current + forecast legs of a comprehensive lookup
+    private int comprehensiveBudgetMs = 6000;
+    // Workers for comprehensive legs, batch refreshes and background revalidation; work beyond
+    // legQueueSize waiting tasks is refused rather than piling up threads
+    private int legThreads = 16;
+    private int legQueueSize = 200;
+
+    // Free-tier quotas enforced locally; 0 means no limit for that window
+    private Map<WeatherProvider, Quota> quotas = new EnumMap<>(Map.of(
+            WeatherProvider.OPEN_WEATHER_MAP, new Quota(60, 1000, 0),
+            WeatherProvider.WEATHER_API, new Quota(0, 0, 1_000_000),
+            WeatherProvider.OPEN_METEO, new Quota(600, 10_000, 0)));
+
+    // Background snapshot refresh for every known location
+    private long refreshIntervalMs = 900_000;
+    private int batchMaxLocations = 100;
+    // Shared deadline for refreshing whatever a batch request finds missing
+    private int batchBudgetMs = 8000;
+
+    // Local weather history: segment files under historyDir, kept for historyRetentionDays
+    private String historyDir = "data/weather-history";
+    private int historyRetentionDays = 90;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Quota {
+        private long perMinute;
+        private long perDay;
+        private long perMonth;
+    }
+
+    // java.net.http rather than HttpURLConnection: a hedged leg that loses is cancelled on interrupt
+    // and frees its fetch thread, instead of blocking it until the provider timeout
     @Bean
     public RestTemplate weatherRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(providerTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(providerTimeoutMs));
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
         restTemplate.getMessageConverters().add(new StringHttpMessageConverter(StandardCharsets.UTF_8));
         return restTemplate;
     }
@@ -52,7 +52,23 @@ public class WebSocketSessionManager {
                 ObjectMapper mapper = new ObjectMapper();
                 mapper.registerModule(new JavaTimeModule());
                 String messageJson = mapper.writeValueAsString(message);
-                session.sendMessage(new TextMessage(messageJson));
+                sendTextToUser(userId, messageJson);
+            } catch (IOException e) {
+                log.error("Failed to send message to user {}: {}", userId, e.getMessage());
+                removeSession(userId);
+            }
+        }
+    }
+
+    // For broadcasts: the payload is serialized once by the caller and reused for every recipient
+    public void sendTextToUser(Long userId, String messageJson) {
+        WebSocketSession session = getSession(userId);
+        if (session != null && session.isOpen()) {
+            try {
+                // Sessions don't allow concurrent sends; chat handlers and background pushes share them
+                synchronized (session) {
+                    session.sendMessage(new TextMessage(messageJson));
+                }
             } catch (IOException e) {
                 log.error("Failed to send message to user {}: {}", userId, e.getMessage());
                 removeSession(userId);
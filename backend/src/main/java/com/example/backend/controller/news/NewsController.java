@@ -6,18 +6,25 @@ import com.example.backend.dto.news.request.NewsSearchRequest;
 import com.example.backend.dto.news.response.NewsArticle;
 import com.example.backend.dto.news.response.NewsResponse;
 import com.example.backend.service.news.NewsService;
+import com.example.backend.util.ConditionalResponses;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
@@ -30,6 +37,9 @@ public class NewsController {
 
     private final NewsService newsService;
 
+    @Value("${news.cache.timeout-minutes:30}")
+    private int newsCacheTimeoutMinutes;
+
     @GetMapping("/farming")
     @Operation(summary = "Get latest farming news",
             description = "Fetches latest farming news from multiple sources and translates to requested language")
@@ -38,7 +48,8 @@ public class NewsController {
             @RequestParam(defaultValue = "bn") String language,
 
             @Parameter(description = "Maximum number of articles to return")
-            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit) {
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int limit,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/news/farming - language: {}, limit: {}", language, limit);
 
@@ -55,7 +66,7 @@ public class NewsController {
             }
 
             log.info("Successfully fetched {} farming news articles", response.getArticles().size());
-            return ResponseEntity.ok(response);
+            return conditional(webRequest, response, "farming", limit);
 
         } catch (Exception e) {
             log.error("Error fetching farming news: {}", e.getMessage(), e);
@@ -72,7 +83,7 @@ public class NewsController {
     @Operation(summary = "Get farming news with detailed request",
             description = "Fetches farming news with advanced filtering options")
     public ResponseEntity<NewsResponse> getFarmingNewsAdvanced(
-            @Valid @RequestBody NewsRequest request) {
+            @Valid @RequestBody NewsRequest request, WebRequest webRequest) {
 
         log.info("POST /api/v1/news/farming - request: {}", request);
 
@@ -82,7 +93,7 @@ public class NewsController {
                     request.getLimit()
             );
 
-            return ResponseEntity.ok(response);
+            return conditional(webRequest, response, "farming", request.getLimit());
 
         } catch (Exception e) {
             log.error("Error fetching farming news with advanced request: {}", e.getMessage(), e);
@@ -106,7 +117,8 @@ public class NewsController {
             @RequestParam(defaultValue = "bn") String language,
 
             @Parameter(description = "Maximum number of articles to return")
-            @RequestParam(defaultValue = "10") @Min(1) @Max(30) int limit) {
+            @RequestParam(defaultValue = "10") @Min(1) @Max(30) int limit,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/news/search - query: {}, language: {}, limit: {}", query, language, limit);
 
@@ -122,7 +134,7 @@ public class NewsController {
             }
 
             log.info("Search returned {} articles for query: {}", response.getArticles().size(), query);
-            return ResponseEntity.ok(response);
+            return conditional(webRequest, response, "search", limit);
 
         } catch (Exception e) {
             log.error("Error searching farming news: {}", e.getMessage(), e);
@@ -140,7 +152,7 @@ public class NewsController {
     @Operation(summary = "Advanced search for farming news",
             description = "Search farming news with advanced filtering and options")
     public ResponseEntity<NewsResponse> searchFarmingNewsAdvanced(
-            @Valid @RequestBody NewsSearchRequest request) {
+            @Valid @RequestBody NewsSearchRequest request, WebRequest webRequest) {
 
         log.info("POST /api/v1/news/search - request: {}", request);
 
@@ -151,7 +163,7 @@ public class NewsController {
                     request.getLimit()
             );
 
-            return ResponseEntity.ok(response);
+            return conditional(webRequest, response, "search", request.getLimit());
 
         } catch (Exception e) {
             log.error("Error in advanced news search: {}", e.getMessage(), e);
@@ -193,7 +205,8 @@ public class NewsController {
             description = "Gets the most recent farming news article")
     public ResponseEntity<NewsArticle> getLatestNews(
             @Parameter(description = "Language for news content (en/bn)")
-            @RequestParam(defaultValue = "bn") String language) {
+            @RequestParam(defaultValue = "bn") String language,
+            WebRequest webRequest) {
 
         log.info("GET /api/v1/news/latest - language: {}", language);
 
@@ -207,7 +220,13 @@ public class NewsController {
             NewsArticle latestArticle = response.getArticles().get(0);
             log.info("Retrieved latest news: {}", latestArticle.getTitle());
 
-            return ResponseEntity.ok(latestArticle);
+            if (response.getLastUpdated() == null) {
+                return ResponseEntity.ok(latestArticle);
+            }
+            Instant lastModified = response.getLastUpdated().atZone(ZoneId.systemDefault()).toInstant();
+            return ConditionalResponses.respond(webRequest, latestArticle,
+                    ConditionalResponses.etag("latest", language, latestArticle.getUrl(), lastModified),
+                    lastModified, ConditionalResponses.freshFor(lastModified, newsLifetime(), true));
 
         } catch (Exception e) {
             log.error("Error fetching latest news: {}", e.getMessage(), e);
@@ -239,4 +258,21 @@ public class NewsController {
             return ResponseEntity.ok(errorMessage);
         }
     }
+
+    // The ETag names the articles and the cache entry they came from; it changes when the entry is rebuilt
+    private ResponseEntity<NewsResponse> conditional(WebRequest webRequest, NewsResponse response, String endpoint, int limit) {
+        if (response.getLastUpdated() == null || response.getArticles().isEmpty()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(response);
+        }
+
+        Instant lastModified = response.getLastUpdated().atZone(ZoneId.systemDefault()).toInstant();
+        String etag = ConditionalResponses.etag(endpoint, response.getLanguage(), response.getSearchQuery(), limit,
+                lastModified, response.getArticles().stream().map(NewsArticle::getUrl).toList());
+        return ConditionalResponses.respond(webRequest, response, etag, lastModified,
+                ConditionalResponses.freshFor(lastModified, newsLifetime(), true));
+    }
+
+    private Duration newsLifetime() {
+        return Duration.ofMinutes(newsCacheTimeoutMinutes);
+    }
 }
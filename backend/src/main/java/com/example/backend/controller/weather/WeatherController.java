@@ -1,13 +1,35 @@
 package com.example.backend.controller.weather;
 
+import com.example.backend.config.WeatherConfig;
+import com.example.backend.dto.weather.request.WeatherBatchRequest;
 import com.example.backend.dto.weather.request.WeatherRequest;
 import com.example.backend.dto.weather.request.WeatherType;
+import com.example.backend.dto.weather.response.WeatherBatchResponse;
+import com.example.backend.dto.weather.response.WeatherHistoryResponse;
 import com.example.backend.dto.weather.response.WeatherResponse;
+import com.example.backend.feature.weather.WeatherHistoryStore;
+import com.example.backend.feature.weather.WeatherLocationResolver;
+import com.example.backend.feature.weather.WeatherLocationResolver.ResolvedLocation;
 import com.example.backend.service.weather.WeatherService;
+import com.example.backend.util.ConditionalResponses;
+import com.example.backend.util.CurrentUserUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/weather")
@@ -16,13 +38,15 @@ import org.springframework.web.bind.annotation.*;
 public class WeatherController {
 
     private final WeatherService weatherService;
+    private final WeatherConfig weatherConfig;
+    private final WeatherLocationResolver locationResolver;
+    private final CurrentUserUtil currentUserUtil;
 
     @PostMapping("/current")
-    public ResponseEntity<WeatherResponse> getCurrentWeather(@RequestBody WeatherRequest request) {
+    public ResponseEntity<WeatherResponse> getCurrentWeather(@RequestBody WeatherRequest request, WebRequest webRequest) {
         try {
-            request.setWeatherType(WeatherType.CURRENT);
-            WeatherResponse response = weatherService.getCurrentWeather(request);
-            return ResponseEntity.ok(response);
+            WeatherResponse response = weatherService.getCurrentWeather(request, resolve(request, WeatherType.CURRENT));
+            return conditional(webRequest, response, WeatherType.CURRENT, false);
         } catch (Exception e) {
             log.error("Error in getCurrentWeather: {}", e.getMessage());
             return ResponseEntity.status(500).build();
@@ -30,11 +54,10 @@ public class WeatherController {
     }
 
     @PostMapping("/forecast")
-    public ResponseEntity<WeatherResponse> getWeatherForecast(@RequestBody WeatherRequest request) {
+    public ResponseEntity<WeatherResponse> getWeatherForecast(@RequestBody WeatherRequest request, WebRequest webRequest) {
         try {
-            request.setWeatherType(WeatherType.FORECAST);
-            WeatherResponse response = weatherService.getWeatherForecast(request);
-            return ResponseEntity.ok(response);
+            WeatherResponse response = weatherService.getWeatherForecast(request, resolve(request, WeatherType.FORECAST));
+            return conditional(webRequest, response, WeatherType.FORECAST, false);
         } catch (Exception e) {
             log.error("Error in getWeatherForecast: {}", e.getMessage());
             return ResponseEntity.status(500).build();
@@ -42,19 +65,50 @@ public class WeatherController {
     }
 
     @PostMapping("/comprehensive")
-    public ResponseEntity<WeatherResponse> getComprehensiveWeather(@RequestBody WeatherRequest request) {
+    public ResponseEntity<WeatherResponse> getComprehensiveWeather(@RequestBody WeatherRequest request, WebRequest webRequest) {
         try {
-            request.setWeatherType(WeatherType.COMPREHENSIVE);
-            WeatherResponse response = weatherService.getComprehensiveWeather(request);
-            return ResponseEntity.ok(response);
+            WeatherResponse response = weatherService.getComprehensiveWeather(request, resolve(request, WeatherType.COMPREHENSIVE));
+            return conditional(webRequest, response, WeatherType.COMPREHENSIVE, false);
         } catch (Exception e) {
             log.error("Error in getComprehensiveWeather: {}", e.getMessage());
             return ResponseEntity.status(500).build();
         }
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<WeatherBatchResponse> getBatchWeather(@RequestBody WeatherBatchRequest request, WebRequest webRequest) {
+        try {
+            WeatherBatchResponse response = weatherService.getBatchWeather(request);
+            return conditionalBatch(webRequest, response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected batch weather request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error in getBatchWeather: {}", e.getMessage());
+            return ResponseEntity.status(500).build();
+        }
+    }
+
+    @GetMapping("/history/{location}")
+    public ResponseEntity<WeatherHistoryResponse> getWeatherHistory(
+            @PathVariable String location,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LocalDate end = to != null ? to : LocalDate.now(WeatherHistoryStore.ZONE);
+            LocalDate start = from != null ? from : end.minusDays(6);
+            return ResponseEntity.ok(weatherService.getWeatherHistory(location, start, end));
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected weather history request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("Error in getWeatherHistory: {}", e.getMessage());
+            return ResponseEntity.status(500).build();
+        }
+    }
+
     @GetMapping("/current/{location}")
-    public ResponseEntity<WeatherResponse> getCurrentWeatherByLocation(@PathVariable String location) {
+    public ResponseEntity<WeatherResponse> getCurrentWeatherByLocation(@PathVariable String location, WebRequest webRequest) {
         try {
             WeatherRequest request = WeatherRequest.builder()
                     .location(location)
@@ -63,8 +117,8 @@ public class WeatherController {
                     .includeFarmingAdvice(false)
                     .build();
 
-            WeatherResponse response = weatherService.getCurrentWeather(request);
-            return ResponseEntity.ok(response);
+            WeatherResponse response = weatherService.getCurrentWeather(request, locationResolver.resolve(request));
+            return conditional(webRequest, response, WeatherType.CURRENT, true);
         } catch (Exception e) {
             log.error("Error in getCurrentWeatherByLocation: {}", e.getMessage());
             return ResponseEntity.status(500).build();
@@ -72,7 +126,7 @@ public class WeatherController {
     }
 
     @GetMapping("/forecast/{location}")
-    public ResponseEntity<WeatherResponse> getForecastByLocation(@PathVariable String location) {
+    public ResponseEntity<WeatherResponse> getForecastByLocation(@PathVariable String location, WebRequest webRequest) {
         try {
             WeatherRequest request = WeatherRequest.builder()
                     .location(location)
@@ -81,11 +135,70 @@ public class WeatherController {
                     .includeFarmingAdvice(false)
                     .build();
 
-            WeatherResponse response = weatherService.getWeatherForecast(request);
-            return ResponseEntity.ok(response);
+            WeatherResponse response = weatherService.getWeatherForecast(request, locationResolver.resolve(request));
+            return conditional(webRequest, response, WeatherType.FORECAST, true);
         } catch (Exception e) {
             log.error("Error in getForecastByLocation: {}", e.getMessage());
             return ResponseEntity.status(500).build();
         }
     }
+
+    // Only the caller's own profile may stand in for a location; a userId sent in the body is ignored.
+    // The location is resolved once here and passed to both the cache key and the service.
+    private ResolvedLocation resolve(WeatherRequest request, WeatherType type) {
+        request.setWeatherType(type);
+        request.setUserId(currentUserUtil.findCurrentUserId().orElse(null));
+        return locationResolver.resolve(request);
+    }
+
+    // Validators follow the backing snapshot: same snapshot, same ETag. Responses that may carry
+    // per-user farming advice are private; the by-location GETs are shareable.
+    private ResponseEntity<WeatherResponse> conditional(WebRequest webRequest, WeatherResponse response,
+                                                        WeatherType type, boolean shared) {
+        if (response.getLastUpdated() == null
+                || (response.getMetadata() != null && response.getMetadata().containsKey("error"))) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(response);
+        }
+
+        Instant lastModified = toInstant(response.getLastUpdated());
+        String etag = ConditionalResponses.etag(type, response.getLocation(), response.getLanguage(), lastModified,
+                response.isStale(), response.isPartial(), response.getFarmingAdvice() != null);
+        // Stale data may be replaced any moment by the background refresh, so it is always revalidated
+        CacheControl cacheControl = response.isStale() ? CacheControl.noCache()
+                : ConditionalResponses.freshFor(lastModified, snapshotLifetime(), shared);
+        return ConditionalResponses.respond(webRequest, response, etag, lastModified, cacheControl);
+    }
+
+    private ResponseEntity<WeatherBatchResponse> conditionalBatch(WebRequest webRequest, WeatherBatchResponse response) {
+        List<LocalDateTime> updates = response.getResults().stream()
+                .map(WeatherResponse::getLastUpdated)
+                .filter(Objects::nonNull)
+                .toList();
+        if (updates.isEmpty()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(response);
+        }
+
+        Object[] versionParts = Stream.concat(
+                        Stream.of(response.getLanguage(), response.getFailedLocations()),
+                        response.getResults().stream().flatMap(result ->
+                                Stream.of(result.getLocation(), result.getLastUpdated(), result.isStale())))
+                .toArray();
+        String etag = ConditionalResponses.etag(versionParts);
+
+        // Last-Modified is the newest member; freshness runs out with the oldest
+        Instant newest = toInstant(updates.stream().max(Comparator.naturalOrder()).orElseThrow());
+        Instant oldest = toInstant(updates.stream().min(Comparator.naturalOrder()).orElseThrow());
+        boolean anyStale = response.getResults().stream().anyMatch(WeatherResponse::isStale);
+        CacheControl cacheControl = anyStale ? CacheControl.noCache()
+                : ConditionalResponses.freshFor(oldest, snapshotLifetime(), true);
+        return ConditionalResponses.respond(webRequest, response, etag, newest, cacheControl);
+    }
+
+    private Duration snapshotLifetime() {
+        return Duration.ofMillis(weatherConfig.getRefreshIntervalMs());
+    }
+
+    private static Instant toInstant(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant();
+    }
 }
@@ -21,4 +21,5 @@ public class NewsResponse {
     private String searchQuery;
     private boolean fromCache;
     private String message;
+    private List<NewsSourceStatus> sourceStatuses; // outcome of each source in the latest crawl
 }
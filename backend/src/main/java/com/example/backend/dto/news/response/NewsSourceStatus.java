@@ -0,0 +1,28 @@
+package com.example.backend.dto.news.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsSourceStatus {
+    private String source;
+    private State state;
+    private int articleCount;
+    private long durationMs;
+    private LocalDateTime checkedAt;
+    private String message;
+
+    public enum State {
+        OK,
+        UNCHANGED, // listing identical to the previous crawl; nothing was parsed
+        FAILED,
+        TIMED_OUT // missed the crawl's overall deadline; its results were dropped
+    }
+}
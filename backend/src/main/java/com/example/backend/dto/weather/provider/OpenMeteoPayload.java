@@ -0,0 +1,47 @@
+package com.example.backend.dto.weather.provider;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+// One Open-Meteo point. Series are bound straight into primitive arrays so
+// the hourly/daily blocks never become boxed lists; null samples read as 0.
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OpenMeteoPayload {
+    @JsonProperty("current_weather")
+    private CurrentWeather currentWeather;
+    private Hourly hourly;
+    private Daily daily;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class CurrentWeather {
+        private double temperature;
+        private double windspeed;
+        private int weathercode;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Hourly {
+        @JsonProperty("relative_humidity_2m")
+        private double[] relativeHumidity2m;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Daily {
+        private String[] time;
+        @JsonProperty("temperature_2m_max")
+        private double[] temperature2mMax;
+        @JsonProperty("temperature_2m_min")
+        private double[] temperature2mMin;
+        @JsonProperty("weather_code")
+        private int[] weatherCode;
+        @JsonProperty("precipitation_sum")
+        private double[] precipitationSum;
+        @JsonProperty("wind_speed_10m_max")
+        private double[] windSpeed10mMax;
+    }
+}
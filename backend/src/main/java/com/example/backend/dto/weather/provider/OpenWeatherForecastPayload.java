@@ -0,0 +1,12 @@
+package com.example.backend.dto.weather.provider;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OpenWeatherForecastPayload {
+    private List<OpenWeatherPayload> list;
+}
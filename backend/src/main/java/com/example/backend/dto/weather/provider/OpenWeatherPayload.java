@@ -0,0 +1,52 @@
+package com.example.backend.dto.weather.provider;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+// OpenWeatherMap /weather body; also the shape of each /forecast list item
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OpenWeatherPayload {
+    private long dt;
+    private Main main;
+    private Wind wind;
+    private Sys sys;
+    private List<Condition> weather;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Main {
+        private double temp;
+        @JsonProperty("feels_like")
+        private double feelsLike;
+        @JsonProperty("temp_min")
+        private double tempMin;
+        @JsonProperty("temp_max")
+        private double tempMax;
+        private double humidity;
+        private double pressure;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Wind {
+        private double speed;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Sys {
+        private long sunrise;
+        private long sunset;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Condition {
+        private int id;
+        private String main;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.dto.weather.provider;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+// WeatherAPI current.json / forecast.json body
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WeatherApiPayload {
+    private Current current;
+    private Forecast forecast;
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Current {
+        @JsonProperty("temp_c")
+        private double tempC;
+        @JsonProperty("feelslike_c")
+        private double feelslikeC;
+        private double humidity;
+        @JsonProperty("pressure_mb")
+        private double pressureMb;
+        @JsonProperty("wind_kph")
+        private double windKph;
+        @JsonProperty("wind_dir")
+        private String windDir;
+        private double uv;
+        @JsonProperty("vis_km")
+        private double visKm;
+        private Condition condition;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Forecast {
+        private List<ForecastDay> forecastday;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ForecastDay {
+        private String date;
+        private Day day;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Day {
+        @JsonProperty("maxtemp_c")
+        private double maxtempC;
+        @JsonProperty("mintemp_c")
+        private double mintempC;
+        private double avghumidity;
+        @JsonProperty("totalprecip_mm")
+        private double totalprecipMm;
+        private double uv;
+        private Condition condition;
+    }
+
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Condition {
+        private int code;
+        private String text;
+        private String icon;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto.weather.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WeatherBatchRequest {
+    private List<String> locations;
+    private String language;
+}
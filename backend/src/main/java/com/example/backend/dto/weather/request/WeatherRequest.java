@@ -11,6 +11,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class WeatherRequest {
     private String location;
+    private Double latitude;
+    private Double longitude;
     private String language;
     private WeatherType weatherType;
     private Long userId;
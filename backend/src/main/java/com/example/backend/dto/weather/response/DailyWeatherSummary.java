@@ -0,0 +1,20 @@
+package com.example.backend.dto.weather.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class DailyWeatherSummary {
+    private LocalDate date;
+    private Double maxTemp;
+    private Double minTemp;
+    private Double rainfall;
+    private Double humidity;
+}
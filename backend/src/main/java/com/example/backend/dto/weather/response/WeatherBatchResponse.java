@@ -0,0 +1,21 @@
+package com.example.backend.dto.weather.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WeatherBatchResponse {
+    private List<WeatherResponse> results;
+    private List<String> failedLocations;
+    private int totalCount;
+    private String language;
+    private LocalDateTime lastUpdated;
+}
@@ -0,0 +1,22 @@
+package com.example.backend.dto.weather.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WeatherHistoryResponse {
+    private String location;
+    private LocalDate from;
+    private LocalDate to;
+    private List<WeatherObservation> observations;
+    private List<DailyWeatherSummary> daily;
+    private WeatherTrend trend;
+}
@@ -0,0 +1,20 @@
+package com.example.backend.dto.weather.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WeatherObservation {
+    private LocalDateTime time;
+    private Double temperature;
+    private Double humidity;
+    private Double rainfall;
+    private Double windSpeed;
+}
@@ -1,10 +1,13 @@
 package com.example.backend.dto.weather.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -23,4 +26,19 @@ public class WeatherResponse {
     private LocalDateTime lastUpdated;
     private String dataSource;
     private Map<String, Object> metadata;
+    private boolean partial; // true when a leg failed or missed the deadline and its section is null
+    private boolean stale; // true when served from the last good snapshot while a refresh runs
+    @JsonIgnore
+    private LocalDateTime staleAfter; // when the data ages past the snapshot lifetime
+
+    // Age and staleness are worked out when the response is read, so a cached copy does not report
+    // the age it had when it was built
+    public boolean isStale() {
+        return stale || (staleAfter != null && LocalDateTime.now().isAfter(staleAfter));
+    }
+
+    @JsonProperty("dataAgeSeconds")
+    public Long getDataAgeSeconds() {
+        return lastUpdated == null ? null : Math.max(0, Duration.between(lastUpdated, LocalDateTime.now()).toSeconds());
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.backend.dto.weather.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class WeatherTrend {
+    private int days;               // days in the window that had any data
+    private double totalRainfall;   // mm over the window
+    private int dryDays;            // consecutive days up to today with under 1 mm of rain
+    private int humidStreakDays;    // consecutive days up to today with mean humidity of 80% or more
+    private Double averageMaxTemp;
+
+    public static WeatherTrend empty() {
+        return new WeatherTrend();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.backend.entity.news;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+// One scraped article, written by the ingestion job and read by every news endpoint
+@Entity
+@Table(name = "news_articles",
+        uniqueConstraints = @UniqueConstraint(name = "uk_news_articles_article_key", columnNames = "article_key"),
+        indexes = {
+                @Index(name = "idx_news_articles_published", columnList = "published_date"),
+                @Index(name = "idx_news_articles_source", columnList = "source")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsArticleRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 of the canonical URL (or source + title when the listing has no link)
+    @Column(name = "article_key", nullable = false, length = 64)
+    private String articleKey;
+
+    @Column(columnDefinition = "TEXT")
+    private String url;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(nullable = false)
+    private String source;
+
+    private String language;
+
+    @Column(name = "published_date", nullable = false)
+    private LocalDateTime publishedDate;
+
+    @Column(nullable = false)
+    private Instant fetchedAt;
+
+    // SimHash of title + summary; near-duplicate stories sit within a few bits of each other
+    private Long fingerprint;
+
+    public static String keyFor(String url, String source, String title) {
+        String identity = url != null && !url.isBlank() ? url.trim() : source + "\n" + title;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(identity.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
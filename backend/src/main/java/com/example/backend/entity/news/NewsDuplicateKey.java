@@ -0,0 +1,30 @@
+package com.example.backend.entity.news;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Key of a scraped article dropped as a near-duplicate of a stored one, so later crawls skip it
+// without comparing fingerprints again
+@Entity
+@Table(name = "news_duplicate_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_news_duplicate_keys_article_key", columnNames = "article_key"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsDuplicateKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "article_key", nullable = false, length = 64)
+    private String articleKey;
+
+    @Column(nullable = false)
+    private Instant droppedAt;
+}
@@ -0,0 +1,40 @@
+package com.example.backend.entity.news;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Validators from the last fetch of a listing page or article page, used for conditional re-fetches
+@Entity
+@Table(name = "news_fetch_state",
+        uniqueConstraints = @UniqueConstraint(name = "uk_news_fetch_state_url_key", columnNames = "url_key"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsFetchState {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 of the URL
+    @Column(name = "url_key", nullable = false, length = 64)
+    private String urlKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String url;
+
+    private String etag;
+
+    private String lastModified; // raw Last-Modified header, echoed back as If-Modified-Since
+
+    @Column(length = 64)
+    private String contentHash; // SHA-256 of the response body
+
+    @Column(nullable = false)
+    private Instant checkedAt;
+}
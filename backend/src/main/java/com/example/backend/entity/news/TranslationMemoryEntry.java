@@ -0,0 +1,39 @@
+package com.example.backend.entity.news;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// One translated text, keyed by the SHA-256 of the source text and the language pair
+@Entity
+@Table(name = "translation_memory",
+        uniqueConstraints = @UniqueConstraint(name = "uk_translation_memory_text_pair",
+                columnNames = {"content_hash", "source_language", "target_language"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TranslationMemoryEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "source_language", nullable = false, length = 8)
+    private String sourceLanguage;
+
+    @Column(name = "target_language", nullable = false, length = 8)
+    private String targetLanguage;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String translatedText;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
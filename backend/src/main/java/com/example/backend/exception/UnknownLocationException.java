@@ -0,0 +1,8 @@
+package com.example.backend.exception;
+
+// A location no provider can be asked about; the request is at fault, not the provider
+public class UnknownLocationException extends RuntimeException {
+    public UnknownLocationException(String location) {
+        super("Unknown location: " + location);
+    }
+}
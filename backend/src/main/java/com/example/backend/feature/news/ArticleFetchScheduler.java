@@ -0,0 +1,192 @@
+package com.example.backend.feature.news;
+
+import com.example.backend.feature.news.ConditionalPageFetcher.Result;
+import com.example.backend.feature.news.ConditionalPageFetcher.Validators;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.HttpStatusException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Fetches article pages in parallel while staying polite to each origin: at
+ * most {@code maxPerHost} requests in flight per host, a minimum gap between
+ * request starts on the same host, and a global cap on open connections.
+ * Transient failures (timeouts, 429, 5xx) are retried with exponential
+ * backoff, and everything stops at the caller's deadline.
+ */
+@Component
+@Slf4j
+public class ArticleFetchScheduler {
+
+    private final int maxPerHost;
+    private final long hostDelayNanos;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final int requestTimeoutMs;
+    private final String userAgent;
+    private final Semaphore connections;
+    private final Map<String, HostSlot> hosts = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "news-article-fetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ArticleFetchScheduler(
+            @Value("${news.fetch.max-per-host:2}") int maxPerHost,
+            @Value("${news.fetch.max-connections:8}") int maxConnections,
+            @Value("${news.fetch.host-delay-ms:250}") long hostDelayMs,
+            @Value("${news.fetch.max-attempts:3}") int maxAttempts,
+            @Value("${news.fetch.backoff-ms:500}") long backoffMs,
+            @Value("${news.fetch.timeout-ms:5000}") int requestTimeoutMs,
+            @Value("${news.scraping.user-agent:Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36}") String userAgent) {
+        this.maxPerHost = maxPerHost;
+        this.hostDelayNanos = TimeUnit.MILLISECONDS.toNanos(hostDelayMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = backoffMs;
+        this.requestTimeoutMs = requestTimeoutMs;
+        this.userAgent = userAgent;
+        this.connections = new Semaphore(maxConnections, true);
+    }
+
+    // Results by the deadline, keyed by URL; failures and late pages are simply absent.
+    // Each URL is fetched conditionally against its previous validators.
+    public Map<String, Result> fetchAll(Map<String, Validators> urls, long deadlineNanos) {
+        Map<String, CompletableFuture<Result>> pending = new LinkedHashMap<>();
+        urls.forEach((url, previous) ->
+                pending.put(url, CompletableFuture.supplyAsync(() -> fetch(url, previous, deadlineNanos), executor)));
+
+        try {
+            CompletableFuture.allOf(pending.values().toArray(CompletableFuture[]::new))
+                    .get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Partial results are collected below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Map<String, Result> results = new HashMap<>();
+        pending.forEach((url, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally() && future.join() != null) {
+                results.put(url, future.join());
+            } else {
+                future.cancel(true);
+            }
+        });
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Result fetch(String url, Validators previous, long deadlineNanos) {
+        HostSlot host = hosts.computeIfAbsent(hostOf(url), key -> new HostSlot(maxPerHost));
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                return fetchOnce(url, previous, host, deadlineNanos);
+            } catch (HttpStatusException e) {
+                if (e.getStatusCode() != 429 && e.getStatusCode() < 500) {
+                    log.debug("Not retrying {}: HTTP {}", url, e.getStatusCode());
+                    return null;
+                }
+                log.debug("Attempt {} for {} got HTTP {}", attempt, url, e.getStatusCode());
+            } catch (IOException e) {
+                log.debug("Attempt {} for {} failed: {}", attempt, url, e.getMessage());
+            } catch (InterruptedException | TimeoutException e) {
+                return null;
+            }
+
+            if (attempt < maxAttempts && !backOff(attempt, deadlineNanos)) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private Result fetchOnce(String url, Validators previous, HostSlot host, long deadlineNanos)
+            throws IOException, InterruptedException, TimeoutException {
+        if (!host.permits.tryAcquire(remaining(deadlineNanos), TimeUnit.NANOSECONDS)) {
+            throw new TimeoutException();
+        }
+        try {
+            // Reserve this host's next start slot, then wait for it outside the lock
+            sleepUntil(host.reserveStart(hostDelayNanos), deadlineNanos);
+            if (!connections.tryAcquire(remaining(deadlineNanos), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException();
+            }
+            try {
+                int timeout = (int) Math.min(requestTimeoutMs, TimeUnit.NANOSECONDS.toMillis(remaining(deadlineNanos)));
+                if (timeout <= 0) {
+                    throw new TimeoutException();
+                }
+                return ConditionalPageFetcher.fetch(url, userAgent, timeout, previous);
+            } finally {
+                connections.release();
+            }
+        } finally {
+            host.permits.release();
+        }
+    }
+
+    // Exponential backoff with jitter; false when the deadline leaves no room for another attempt
+    private boolean backOff(int attempt, long deadlineNanos) {
+        long delayMs = backoffMs * (1L << (attempt - 1));
+        delayMs += ThreadLocalRandom.current().nextLong(Math.max(1, delayMs / 2));
+        long wakeAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        if (wakeAt >= deadlineNanos) {
+            return false;
+        }
+        try {
+            sleepUntil(wakeAt, deadlineNanos);
+            return true;
+        } catch (InterruptedException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    private static void sleepUntil(long wakeAtNanos, long deadlineNanos) throws InterruptedException, TimeoutException {
+        if (wakeAtNanos >= deadlineNanos) {
+            throw new TimeoutException();
+        }
+        long wait = wakeAtNanos - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    private static long remaining(long deadlineNanos) {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : url;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private static final class HostSlot {
+        final Semaphore permits;
+        private long nextStartNanos = System.nanoTime();
+
+        HostSlot(int maxPerHost) {
+            this.permits = new Semaphore(maxPerHost, true);
+        }
+
+        synchronized long reserveStart(long gapNanos) {
+            long start = Math.max(System.nanoTime(), nextStartNanos);
+            nextStartNanos = start + gapNanos;
+            return start;
+        }
+    }
+}
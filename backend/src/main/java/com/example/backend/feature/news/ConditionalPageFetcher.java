@@ -0,0 +1,67 @@
+package com.example.backend.feature.news;
+
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * One page fetch that avoids work when nothing changed: the previous ETag and
+ * Last-Modified go out as conditional headers (304 means unchanged), and a
+ * 200 whose body hashes to the previous content hash is treated the same way.
+ * Only a genuinely new body is parsed.
+ */
+public final class ConditionalPageFetcher {
+
+    private ConditionalPageFetcher() {}
+
+    public record Validators(String etag, String lastModified, String contentHash) {
+        public static final Validators NONE = new Validators(null, null, null);
+    }
+
+    // document is null when the page is unchanged
+    public record Result(Document document, boolean unchanged, Validators validators) {}
+
+    public static Result fetch(String url, String userAgent, int timeoutMs, Validators previous) throws IOException {
+        Connection connection = Jsoup.connect(url)
+                .userAgent(userAgent)
+                .timeout(timeoutMs)
+                .ignoreHttpErrors(true);
+        if (previous.etag() != null) {
+            connection.header("If-None-Match", previous.etag());
+        }
+        if (previous.lastModified() != null) {
+            connection.header("If-Modified-Since", previous.lastModified());
+        }
+
+        Connection.Response response = connection.execute();
+        if (response.statusCode() == 304) {
+            return new Result(null, true, previous);
+        }
+        if (response.statusCode() >= 400) {
+            throw new HttpStatusException("HTTP error fetching URL", response.statusCode(), url);
+        }
+
+        byte[] body = response.bodyAsBytes();
+        String contentHash = sha256(body);
+        Validators current = new Validators(response.header("ETag"), response.header("Last-Modified"), contentHash);
+        if (contentHash.equals(previous.contentHash())) {
+            return new Result(null, true, current);
+        }
+        return new Result(Jsoup.parse(new ByteArrayInputStream(body), response.charset(), url), false, current);
+    }
+
+    public static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
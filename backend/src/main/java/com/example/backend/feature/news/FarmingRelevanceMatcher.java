@@ -0,0 +1,202 @@
+package com.example.backend.feature.news;
+
+import com.example.backend.dto.news.response.NewsArticle;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Scores how much an article is about farming. English and Bangla keywords
+ * are compiled into one Aho-Corasick automaton, so title, summary and content
+ * are each scanned once, case-folding characters as they are read rather than
+ * building a lowercased copy. Every keyword carries a weight: ambiguous words
+ * ("organic", "rural", "সার") need support from others to pass the threshold.
+ * A keyword only counts as a whole word, optionally followed by one of a few
+ * inflections, so "ধান" does not match "ধানমন্ডি" nor "seed" "seeded".
+ */
+@Component
+public class FarmingRelevanceMatcher {
+
+    // Matches in the title count this many times
+    private static final double TITLE_WEIGHT = 2.0;
+
+    private static final Map<String, Double> KEYWORDS = Map.ofEntries(
+            // English
+            Map.entry("agriculture", 1.0), Map.entry("agricultural", 1.0), Map.entry("agri", 0.8),
+            Map.entry("farming", 1.0), Map.entry("farmer", 1.0), Map.entry("crop", 1.0),
+            Map.entry("harvest", 1.0), Map.entry("cultivation", 1.0), Map.entry("irrigation", 1.0),
+            Map.entry("fertilizer", 1.0), Map.entry("fertiliser", 1.0), Map.entry("pesticide", 1.0),
+            Map.entry("livestock", 1.0), Map.entry("paddy", 1.0), Map.entry("kharif", 1.0), Map.entry("rabi", 0.8),
+            Map.entry("cattle", 0.8), Map.entry("dairy", 0.7), Map.entry("soil", 0.7), Map.entry("seed", 0.5),
+            Map.entry("plant", 0.5), Map.entry("food security", 0.7), Map.entry("organic", 0.3),
+            Map.entry("rural", 0.4), Map.entry("sustainable", 0.2),
+            // Bangla
+            Map.entry("কৃষি", 1.0), Map.entry("কৃষক", 1.0), Map.entry("ফসল", 1.0), Map.entry("চাষ", 1.0),
+            Map.entry("ধান", 1.0), Map.entry("সেচ", 1.0), Map.entry("কীটনাশক", 1.0), Map.entry("খামার", 1.0),
+            Map.entry("ফলন", 1.0), Map.entry("বোরো", 1.0), Map.entry("আমন", 0.8), Map.entry("আউশ", 0.8),
+            Map.entry("গবাদি", 1.0), Map.entry("বীজ", 0.7), Map.entry("মাটি", 0.6), Map.entry("সবজি", 0.6),
+            Map.entry("পাট", 0.5), Map.entry("মৎস্য", 0.5), Map.entry("দুগ্ধ", 0.6), Map.entry("পশু", 0.4),
+            Map.entry("খাদ্য নিরাপত্তা", 0.7), Map.entry("জৈব", 0.3), Map.entry("গ্রামীণ", 0.4), Map.entry("সার", 0.4)
+    );
+
+    // Endings a keyword may carry and still count: plurals and case markers, nothing that makes another word
+    private static final String[] ENGLISH_SUFFIXES = {"s", "ing"};
+    private static final String[] BANGLA_SUFFIXES = {"ের", "র", "ে", "তে", "কে", "রা", "দের", "গুলো", "গুলি", "টি", "টা", "ও", "ই"};
+
+    private final Automaton automaton = Automaton.compile(KEYWORDS);
+    private final double minScore;
+
+    public FarmingRelevanceMatcher(@Value("${news.relevance.min-score:1.0}") double minScore) {
+        this.minScore = minScore;
+    }
+
+    public double score(NewsArticle article) {
+        double score = TITLE_WEIGHT * automaton.score(article.getTitle()) + automaton.score(article.getSummary());
+        // Listing-only articles carry their summary as content; don't count it twice
+        if (article.getContent() != null && !article.getContent().equals(article.getSummary())) {
+            score += automaton.score(article.getContent());
+        }
+        return score;
+    }
+
+    public boolean isRelevant(NewsArticle article) {
+        return score(article) >= minScore;
+    }
+
+    private static final class Automaton {
+        // Per state: sorted outgoing characters and their targets, failure link, and the weights of
+        // every keyword ending here (own plus those reached through failure links) with their lengths
+        private final char[][] edgeChars;
+        private final int[][] edgeTargets;
+        private final int[] failure;
+        private final double[][] outputWeights;
+        private final int[][] outputLengths;
+
+        private Automaton(char[][] edgeChars, int[][] edgeTargets, int[] failure,
+                          double[][] outputWeights, int[][] outputLengths) {
+            this.edgeChars = edgeChars;
+            this.edgeTargets = edgeTargets;
+            this.failure = failure;
+            this.outputWeights = outputWeights;
+            this.outputLengths = outputLengths;
+        }
+
+        static Automaton compile(Map<String, Double> keywords) {
+            List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+            List<List<double[]>> outputs = new ArrayList<>(); // {weight, length}
+            trie.add(new TreeMap<>());
+            outputs.add(new ArrayList<>());
+            keywords.forEach((keyword, weight) -> {
+                int state = 0;
+                for (char c : keyword.toCharArray()) {
+                    char folded = Character.toLowerCase(c);
+                    Integer next = trie.get(state).get(folded);
+                    if (next == null) {
+                        next = trie.size();
+                        trie.get(state).put(folded, next);
+                        trie.add(new TreeMap<>());
+                        outputs.add(new ArrayList<>());
+                    }
+                    state = next;
+                }
+                outputs.get(state).add(new double[]{weight, keyword.length()});
+            });
+
+            // Breadth-first failure links; each state inherits the outputs of its failure state
+            int size = trie.size();
+            int[] failure = new int[size];
+            Deque<Integer> queue = new ArrayDeque<>(trie.get(0).values());
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (Map.Entry<Character, Integer> edge : trie.get(state).entrySet()) {
+                    int child = edge.getValue();
+                    int fallback = failure[state];
+                    while (fallback != 0 && !trie.get(fallback).containsKey(edge.getKey())) {
+                        fallback = failure[fallback];
+                    }
+                    Integer target = trie.get(fallback).get(edge.getKey());
+                    failure[child] = target != null && target != child ? target : 0;
+                    outputs.get(child).addAll(outputs.get(failure[child]));
+                    queue.add(child);
+                }
+            }
+
+            char[][] edgeChars = new char[size][];
+            int[][] edgeTargets = new int[size][];
+            double[][] outputWeights = new double[size][];
+            int[][] outputLengths = new int[size][];
+            for (int state = 0; state < size; state++) {
+                TreeMap<Character, Integer> edges = trie.get(state);
+                edgeChars[state] = new char[edges.size()];
+                edgeTargets[state] = new int[edges.size()];
+                int i = 0;
+                for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                    edgeChars[state][i] = edge.getKey();
+                    edgeTargets[state][i++] = edge.getValue();
+                }
+                List<double[]> stateOutputs = outputs.get(state);
+                outputWeights[state] = new double[stateOutputs.size()];
+                outputLengths[state] = new int[stateOutputs.size()];
+                for (int o = 0; o < stateOutputs.size(); o++) {
+                    outputWeights[state][o] = stateOutputs.get(o)[0];
+                    outputLengths[state][o] = (int) stateOutputs.get(o)[1];
+                }
+            }
+            return new Automaton(edgeChars, edgeTargets, failure, outputWeights, outputLengths);
+        }
+
+        double score(String text) {
+            if (text == null) {
+                return 0;
+            }
+            double score = 0;
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = Character.toLowerCase(text.charAt(i));
+                int next;
+                while ((next = step(state, c)) < 0 && state != 0) {
+                    state = failure[state];
+                }
+                state = Math.max(next, 0);
+                for (int o = 0; o < outputWeights[state].length; o++) {
+                    // Keywords must be whole words: "plant" in "implant" or "planet" does not count
+                    int start = i + 1 - outputLengths[state][o];
+                    if (startsWord(text, start) && endsWord(text, start, i + 1)) {
+                        score += outputWeights[state][o];
+                    }
+                }
+            }
+            return score;
+        }
+
+        private int step(int state, char c) {
+            int index = Arrays.binarySearch(edgeChars[state], c);
+            return index >= 0 ? edgeTargets[state][index] : -1;
+        }
+
+        private static boolean startsWord(String text, int start) {
+            return start == 0 || !isWordChar(text.charAt(start - 1));
+        }
+
+        private static boolean endsWord(String text, int start, int end) {
+            if (end == text.length() || !isWordChar(text.charAt(end))) {
+                return true;
+            }
+            for (String suffix : text.charAt(start) < 0x80 ? ENGLISH_SUFFIXES : BANGLA_SUFFIXES) {
+                int next = end + suffix.length();
+                if (text.regionMatches(true, end, suffix, 0, suffix.length())
+                        && (next == text.length() || !isWordChar(text.charAt(next)))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isWordChar(char c) {
+            int type = Character.getType(c);
+            return Character.isLetterOrDigit(c) || type == Character.NON_SPACING_MARK
+                    || type == Character.COMBINING_SPACING_MARK;
+        }
+    }
+}
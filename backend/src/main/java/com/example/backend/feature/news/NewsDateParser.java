@@ -0,0 +1,201 @@
+package com.example.backend.feature.news;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jsoup.nodes.Element;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Publication dates from news listings. A machine-readable {@code datetime}
+ * attribute wins over the visible text. Text is normalised once (Bangla digits
+ * to ASCII, case), then matched against a few precompiled shapes (ISO, day-month-year,
+ * month-day-year, numeric, relative "2 hours ago" / "২ ঘণ্টা আগে") whose
+ * captured fields build the date directly, so no formatter is tried and
+ * failed per candidate. Absolute results are cached by text since a listing
+ * repeats the same few date strings on every crawl.
+ */
+@Component
+public class NewsDateParser {
+
+    private static final Pattern ISO = Pattern.compile(
+            "(\\d{4})-(\\d{1,2})-(\\d{1,2})(?:[T ](\\d{1,2}):(\\d{2})(?::(\\d{2}))?(?:\\.\\d+)?)?\\s*(Z|[+-]\\d{2}:?\\d{2})?",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern DAY_MONTH_YEAR = Pattern.compile(
+            "(\\d{1,2})(?:st|nd|rd|th|ই|লা|রা|শে|ঠা)?\\s+([\\p{L}\\p{M}]+)\\.?,?\\s+(\\d{4})");
+    private static final Pattern MONTH_DAY_YEAR = Pattern.compile(
+            "([\\p{L}\\p{M}]+)\\.?\\s+(\\d{1,2})(?:st|nd|rd|th|ই|লা|রা|শে|ঠা)?,?\\s+(\\d{4})");
+    private static final Pattern NUMERIC = Pattern.compile("(\\d{1,2})[/.-](\\d{1,2})[/.-](\\d{4})");
+    private static final Pattern TIME = Pattern.compile("(\\d{1,2}):(\\d{2})(?::\\d{2})?\\s*([ap]\\.?m\\.?)?");
+    private static final Pattern RELATIVE = Pattern.compile(
+            "(?<![\\p{L}\\p{M}\\d])(\\d+|an?|one)\\s+(sec|second|min|minute|hr|hour|day|week|month|year|সেকেন্ড|মিনিট|ঘণ্টা|ঘন্টা|দিন|সপ্তাহ|মাস|বছর)\\S*\\s+(?:ago|আগে)");
+
+    private static final Map<String, Integer> MONTHS = new HashMap<>();
+
+    static {
+        String[] english = {"january", "february", "march", "april", "may", "june", "july", "august",
+                "september", "october", "november", "december"};
+        for (int i = 0; i < english.length; i++) {
+            MONTHS.put(english[i], i + 1);
+            MONTHS.put(english[i].substring(0, 3), i + 1);
+        }
+        MONTHS.put("sept", 9);
+        String[][] bangla = {{"জানুয়ারি", "জানুয়ারী"}, {"ফেব্রুয়ারি", "ফেব্রুয়ারী"}, {"মার্চ"}, {"এপ্রিল"}, {"মে"},
+                {"জুন"}, {"জুলাই"}, {"আগস্ট", "আগষ্ট"}, {"সেপ্টেম্বর"}, {"অক্টোবর"}, {"নভেম্বর"}, {"ডিসেম্বর"}};
+        for (int i = 0; i < bangla.length; i++) {
+            for (String name : bangla[i]) {
+                MONTHS.put(name, i + 1);
+            }
+        }
+    }
+
+    private final Cache<String, Optional<LocalDateTime>> absoluteDates = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .build();
+
+    // The element's own datetime attribute, a nested <time datetime>, then the visible text
+    public Optional<LocalDateTime> parse(Element dateElement) {
+        String machineReadable = dateElement.attr("datetime");
+        if (machineReadable.isEmpty()) {
+            Element time = dateElement.selectFirst("time[datetime]");
+            machineReadable = time != null ? time.attr("datetime") : "";
+        }
+        if (!machineReadable.isEmpty()) {
+            Optional<LocalDateTime> parsed = parse(machineReadable);
+            if (parsed.isPresent()) {
+                return parsed;
+            }
+        }
+        return parse(dateElement.text());
+    }
+
+    public Optional<LocalDateTime> parse(String text) {
+        if (text == null || text.isBlank()) {
+            return Optional.empty();
+        }
+        String normalized = normalize(text);
+
+        // Relative dates move with the clock, so they are never cached
+        Optional<LocalDateTime> relative = parseRelative(normalized, LocalDateTime.now());
+        if (relative.isPresent()) {
+            return relative;
+        }
+        return absoluteDates.get(normalized, NewsDateParser::parseAbsolute);
+    }
+
+    private static Optional<LocalDateTime> parseAbsolute(String text) {
+        Matcher iso = ISO.matcher(text);
+        if (iso.find()) {
+            LocalDate date = date(iso.group(1), iso.group(2), iso.group(3));
+            if (date == null) {
+                return Optional.empty();
+            }
+            if (iso.group(4) == null) {
+                return Optional.of(date.atStartOfDay());
+            }
+            LocalDateTime dateTime = date.atTime(clamp(iso.group(4), 23), clamp(iso.group(5), 59),
+                    iso.group(6) != null ? clamp(iso.group(6), 59) : 0);
+            if (iso.group(7) == null) {
+                return Optional.of(dateTime);
+            }
+            ZoneOffset offset = ZoneOffset.of(iso.group(7).equalsIgnoreCase("z") ? "Z" : iso.group(7).length() == 5
+                    ? iso.group(7).substring(0, 3) + ":" + iso.group(7).substring(3) : iso.group(7));
+            return Optional.of(dateTime.atOffset(offset).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+        }
+
+        LocalDate date = null;
+        Matcher matcher;
+        if ((matcher = DAY_MONTH_YEAR.matcher(text)).find() && MONTHS.containsKey(matcher.group(2))) {
+            date = date(matcher.group(3), MONTHS.get(matcher.group(2)), matcher.group(1));
+        } else if ((matcher = MONTH_DAY_YEAR.matcher(text)).find() && MONTHS.containsKey(matcher.group(1))) {
+            date = date(matcher.group(3), MONTHS.get(matcher.group(1)), matcher.group(2));
+        } else if ((matcher = NUMERIC.matcher(text)).find()) {
+            // Sites in this region write day first
+            date = date(matcher.group(3), matcher.group(2), matcher.group(1));
+        }
+        if (date == null) {
+            return Optional.empty();
+        }
+
+        Matcher time = TIME.matcher(text);
+        if (!time.find()) {
+            return Optional.of(date.atStartOfDay());
+        }
+        int hour = clamp(time.group(1), 23);
+        if (time.group(3) != null) {
+            boolean pm = time.group(3).charAt(0) == 'p';
+            hour = hour % 12 + (pm ? 12 : 0);
+        }
+        return Optional.of(date.atTime(hour, clamp(time.group(2), 59)));
+    }
+
+    private static Optional<LocalDateTime> parseRelative(String text, LocalDateTime now) {
+        if (text.contains("just now") || text.contains("এইমাত্র")) {
+            return Optional.of(now);
+        }
+        if (text.startsWith("today") || text.startsWith("আজ")) {
+            return Optional.of(now.toLocalDate().atStartOfDay());
+        }
+        if (text.startsWith("yesterday") || text.startsWith("গতকাল")) {
+            return Optional.of(now.toLocalDate().minusDays(1).atStartOfDay());
+        }
+
+        Matcher matcher = RELATIVE.matcher(text);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        String count = matcher.group(1);
+        long amount = Character.isDigit(count.charAt(0)) ? Long.parseLong(count) : 1;
+        return Optional.of(switch (matcher.group(2)) {
+            case "sec", "second", "সেকেন্ড" -> now.minusSeconds(amount);
+            case "min", "minute", "মিনিট" -> now.minusMinutes(amount);
+            case "hr", "hour", "ঘণ্টা", "ঘন্টা" -> now.minusHours(amount);
+            case "day", "দিন" -> now.minusDays(amount);
+            case "week", "সপ্তাহ" -> now.minusWeeks(amount);
+            case "month", "মাস" -> now.minusMonths(amount);
+            default -> now.minusYears(amount);
+        });
+    }
+
+    // Lowercase, Bangla digits to ASCII, whitespace collapsed
+    private static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '০' && c <= '৯') {
+                c = (char) ('0' + (c - '০'));
+            }
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                space = normalized.length() > 0;
+                continue;
+            }
+            if (space) {
+                normalized.append(' ');
+                space = false;
+            }
+            normalized.append(Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+
+    private static LocalDate date(String year, Object month, String day) {
+        int y = Integer.parseInt(year);
+        int m = month instanceof Integer value ? value : Integer.parseInt((String) month);
+        int d = Integer.parseInt(day);
+        if (m < 1 || m > 12 || d < 1 || d > YearMonth.of(y, m).lengthOfMonth()) {
+            return null;
+        }
+        return LocalDate.of(y, m, d);
+    }
+
+    private static int clamp(String value, int max) {
+        return Math.min(Integer.parseInt(value), max);
+    }
+}
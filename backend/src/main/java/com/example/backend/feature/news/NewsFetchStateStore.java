@@ -0,0 +1,77 @@
+package com.example.backend.feature.news;
+
+import com.example.backend.entity.news.NewsFetchState;
+import com.example.backend.feature.news.ConditionalPageFetcher.Validators;
+import com.example.backend.repository.news.NewsFetchStateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Per-URL fetch validators, persisted so conditional fetches survive restarts
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsFetchStateStore {
+
+    private final NewsFetchStateRepository repository;
+
+    public Validators get(String url) {
+        return getAll(List.of(url)).getOrDefault(url, Validators.NONE);
+    }
+
+    // Only URLs with a recorded state appear in the result
+    public Map<String, Validators> getAll(Collection<String> urls) {
+        Map<String, String> urlByKey = urls.stream()
+                .distinct()
+                .collect(Collectors.toMap(NewsFetchStateStore::keyFor, Function.identity()));
+        if (urlByKey.isEmpty()) {
+            return Map.of();
+        }
+        return repository.findByUrlKeyIn(urlByKey.keySet()).stream()
+                .collect(Collectors.toMap(state -> urlByKey.get(state.getUrlKey()),
+                        state -> new Validators(state.getEtag(), state.getLastModified(), state.getContentHash())));
+    }
+
+    public void recordAll(Map<String, Validators> validatorsByUrl) {
+        if (validatorsByUrl.isEmpty()) {
+            return;
+        }
+        Map<String, String> urlByKey = validatorsByUrl.keySet().stream()
+                .collect(Collectors.toMap(NewsFetchStateStore::keyFor, Function.identity()));
+        Map<String, NewsFetchState> existing = repository.findByUrlKeyIn(urlByKey.keySet()).stream()
+                .collect(Collectors.toMap(NewsFetchState::getUrlKey, Function.identity()));
+
+        Instant now = Instant.now();
+        List<NewsFetchState> states = new ArrayList<>(urlByKey.size());
+        urlByKey.forEach((key, url) -> {
+            Validators validators = validatorsByUrl.get(url);
+            NewsFetchState state = existing.getOrDefault(key, NewsFetchState.builder().urlKey(key).url(url).build());
+            state.setEtag(validators.etag());
+            state.setLastModified(validators.lastModified());
+            state.setContentHash(validators.contentHash());
+            state.setCheckedAt(now);
+            states.add(state);
+        });
+
+        try {
+            repository.saveAll(states);
+        } catch (RuntimeException e) {
+            // Losing validators only costs one unconditional fetch next time
+            log.warn("Could not record fetch state for {} URLs: {}", states.size(), e.getMessage());
+        }
+    }
+
+    public int purgeCheckedBefore(Instant cutoff) {
+        return repository.deleteCheckedBefore(cutoff);
+    }
+
+    private static String keyFor(String url) {
+        return ConditionalPageFetcher.sha256(url.getBytes(StandardCharsets.UTF_8));
+    }
+}
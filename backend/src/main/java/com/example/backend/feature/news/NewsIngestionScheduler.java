@@ -0,0 +1,28 @@
+package com.example.backend.feature.news;
+
+import com.example.backend.service.news.NewsIngestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsIngestionScheduler {
+
+    private final NewsIngestionService ingestionService;
+
+    // Outbound scraping happens here on a fixed cadence, never on the request path
+    @Scheduled(initialDelayString = "${news.ingestion.initial-delay-ms:5000}",
+            fixedDelayString = "${news.ingestion.interval-ms:1800000}")
+    public void ingestAll() {
+        long start = System.currentTimeMillis();
+        try {
+            int stored = ingestionService.ingest();
+            log.info("News ingestion stored {} new articles in {} ms", stored, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("News ingestion failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.example.backend.feature.news;
+
+import com.example.backend.dto.news.response.NewsArticle;
+import com.example.backend.entity.news.NewsArticleRecord;
+import com.example.backend.repository.news.NewsArticleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the stored news articles, ranked with BM25.
+ * Loaded once from the store at startup and then kept current by ingestion
+ * (new articles added, purged ones removed), so searching never scrapes or
+ * touches the database. Tokens are case-folded runs of letters, digits and
+ * combining marks, which keeps Bangla words (vowel signs, hasanta) whole.
+ * A query term ending in {@code *}, and the last term of every query,
+ * also matches as a prefix.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Title words count this many times toward term frequency
+    private static final int TITLE_WEIGHT = 3;
+
+    private final NewsArticleRepository articleRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, IndexedDoc> docs = new HashMap<>();
+    private long totalLength;
+    private volatile Instant lastModified = Instant.now();
+
+    @PostConstruct
+    public void load() {
+        try {
+            List<NewsArticleRecord> records = articleRepository.findAll();
+            addAll(records);
+            log.info("News search index loaded with {} articles and {} terms", records.size(), termCount());
+        } catch (Exception e) {
+            log.warn("Could not load news search index; it will fill as articles are ingested: {}", e.getMessage());
+        }
+    }
+
+    public void addAll(Collection<NewsArticleRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (NewsArticleRecord record : records) {
+                if (record.getId() != null) {
+                    remove(record.getId());
+                    add(record);
+                }
+            }
+            lastModified = Instant.now();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Mirrors NewsArticleRepository.deletePublishedBefore
+    public int removePublishedBefore(LocalDateTime cutoff) {
+        lock.writeLock().lock();
+        try {
+            List<Long> expired = docs.values().stream()
+                    .filter(doc -> doc.article().getPublishedDate() != null && doc.article().getPublishedDate().isBefore(cutoff))
+                    .map(IndexedDoc::id)
+                    .toList();
+            expired.forEach(this::remove);
+            if (!expired.isEmpty()) {
+                lastModified = Instant.now();
+            }
+            return expired.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<NewsArticle> search(String query, int limit) {
+        List<QueryTerm> terms = parseQuery(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (docs.isEmpty()) {
+                return List.of();
+            }
+            double avgLength = (double) totalLength / docs.size();
+            Map<Long, Double> scores = new HashMap<>();
+            for (QueryTerm term : terms) {
+                Map<String, Map<Long, Integer>> matches = term.prefix()
+                        ? postings.subMap(term.text(), true, term.text() + Character.MAX_VALUE, false)
+                        : postings.containsKey(term.text()) ? Map.of(term.text(), postings.get(term.text())) : Map.of();
+                for (Map<Long, Integer> posting : matches.values()) {
+                    double idf = Math.log(1 + (docs.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+                    posting.forEach((docId, tf) -> {
+                        double norm = K1 * (1 - B + B * docs.get(docId).length() / avgLength);
+                        scores.merge(docId, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                    });
+                }
+            }
+
+            // Top-k by score, newer first on ties
+            Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(entry -> docs.get(entry.getKey()).publishedAt());
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(ranking);
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<NewsArticle> results = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                results.add(docs.get(top.poll().getKey()).article());
+            }
+            Collections.reverse(results);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public LocalDateTime lastModified() {
+        return LocalDateTime.ofInstant(lastModified, ZoneId.systemDefault());
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+            if (isWordPart(cp)) {
+                token.appendCodePoint(Character.toLowerCase(cp));
+            } else if (cp != '\u200c' && cp != '\u200d') { // joiners sit inside Bangla words
+                flush(token, tokens);
+            }
+        }
+        flush(token, tokens);
+        return tokens;
+    }
+
+    private void add(NewsArticleRecord record) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(record.getTitle()).forEach(token -> frequencies.merge(token, TITLE_WEIGHT, Integer::sum));
+        tokenize(record.getSummary()).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        // Content starts with the summary for listing-only articles; index it only when it adds something
+        if (record.getContent() != null && !record.getContent().equals(record.getSummary())) {
+            tokenize(record.getContent()).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        }
+
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+        frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(record.getId(), tf));
+        docs.put(record.getId(), new IndexedDoc(record.getId(), toArticle(record), frequencies.keySet().toArray(String[]::new), length));
+        totalLength += length;
+    }
+
+    private void remove(Long id) {
+        IndexedDoc doc = docs.remove(id);
+        if (doc == null) {
+            return;
+        }
+        for (String term : doc.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= doc.length();
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<QueryTerm> parseQuery(String query) {
+        List<QueryTerm> terms = new ArrayList<>();
+        if (query == null) {
+            return terms;
+        }
+        String[] parts = query.trim().split("\\s+");
+        for (int p = 0; p < parts.length; p++) {
+            boolean prefix = parts[p].endsWith("*") || p == parts.length - 1;
+            List<String> tokens = tokenize(parts[p]);
+            for (int t = 0; t < tokens.size(); t++) {
+                terms.add(new QueryTerm(tokens.get(t), prefix && t == tokens.size() - 1));
+            }
+        }
+        return terms;
+    }
+
+    private static boolean isWordPart(int cp) {
+        if (Character.isLetterOrDigit(cp)) {
+            return true;
+        }
+        int type = Character.getType(cp);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static void flush(StringBuilder token, List<String> tokens) {
+        if (!token.isEmpty()) {
+            tokens.add(token.toString());
+            token.setLength(0);
+        }
+    }
+
+    private static NewsArticle toArticle(NewsArticleRecord record) {
+        return NewsArticle.builder()
+                .title(record.getTitle())
+                .summary(record.getSummary())
+                .content(record.getContent())
+                .url(record.getUrl())
+                .source(record.getSource())
+                .publishedDate(record.getPublishedDate())
+                .language(record.getLanguage())
+                .build();
+    }
+
+    private record QueryTerm(String text, boolean prefix) {}
+
+    private record IndexedDoc(long id, NewsArticle article, String[] terms, int length) {
+        LocalDateTime publishedAt() {
+            return article.getPublishedDate() != null ? article.getPublishedDate() : LocalDateTime.MIN;
+        }
+    }
+}
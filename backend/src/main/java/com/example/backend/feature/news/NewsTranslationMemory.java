@@ -0,0 +1,138 @@
+package com.example.backend.feature.news;
+
+import com.example.backend.entity.news.TranslationMemoryEntry;
+import com.example.backend.repository.news.TranslationMemoryRepository;
+import com.example.backend.service.chatbot.TranslationService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Translation memory for news text. Translations are keyed by the SHA-256 of
+ * the source text plus the language pair and kept in the database, with an
+ * in-process LRU in front, so a given title or summary goes through the
+ * translation API once over the lifetime of the article rather than on every
+ * Bangla request. Only complete translations are remembered: a failed or
+ * partly failed call, the quota warning, or text that is not mostly Bangla
+ * is served once as the source text and retried on the next request.
+ */
+@Component
+@Slf4j
+public class NewsTranslationMemory {
+
+    private static final String ENGLISH = "en";
+    private static final String BANGLA = "bn";
+
+    private final TranslationService translationService;
+    private final TranslationMemoryRepository repository;
+    private final Cache<String, String> recent;
+
+    public NewsTranslationMemory(TranslationService translationService,
+                                 TranslationMemoryRepository repository,
+                                 @Value("${news.translation.memory-size:5000}") int memorySize) {
+        this.translationService = translationService;
+        this.repository = repository;
+        this.recent = Caffeine.newBuilder().maximumSize(memorySize).build();
+    }
+
+    public String toBengali(String text) {
+        return translate(text, ENGLISH, BANGLA, translationService::tryTranslateToBengali);
+    }
+
+    // One query for everything a response is about to translate, instead of one per text
+    public void preloadBengali(Collection<String> texts) {
+        Map<String, String> missing = new HashMap<>();
+        for (String text : texts) {
+            if (text != null && !text.isBlank()) {
+                String hash = hash(text);
+                if (recent.getIfPresent(key(hash, ENGLISH, BANGLA)) == null) {
+                    missing.put(hash, text);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        try {
+            repository.findBySourceLanguageAndTargetLanguageAndContentHashIn(ENGLISH, BANGLA, missing.keySet()).stream()
+                    .filter(NewsTranslationMemory::usable)
+                    .forEach(entry -> recent.put(key(entry.getContentHash(), ENGLISH, BANGLA), entry.getTranslatedText()));
+        } catch (RuntimeException e) {
+            log.warn("Could not preload translation memory: {}", e.getMessage());
+        }
+    }
+
+    public int purgeCreatedBefore(Instant cutoff) {
+        return repository.deleteCreatedBefore(cutoff);
+    }
+
+    private String translate(String text, String source, String target, Function<String, Optional<String>> translator) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String hash = hash(text);
+        String key = key(hash, source, target);
+        String remembered = recent.getIfPresent(key);
+        if (remembered != null) {
+            return remembered;
+        }
+
+        try {
+            Optional<TranslationMemoryEntry> stored = repository
+                    .findBySourceLanguageAndTargetLanguageAndContentHashIn(source, target, List.of(hash))
+                    .stream().findFirst();
+            if (stored.isPresent() && usable(stored.get())) {
+                recent.put(key, stored.get().getTranslatedText());
+                return stored.get().getTranslatedText();
+            }
+            // Written before failures were detected (e.g. the quota warning); make room for a real translation
+            stored.ifPresent(repository::delete);
+        } catch (RuntimeException e) {
+            log.warn("Translation memory lookup failed: {}", e.getMessage());
+        }
+
+        // A failed, partial or non-Bangla result is served as the source text and tried again next time
+        Optional<String> result = translator.apply(text);
+        if (result.isEmpty() || result.get().equals(text)
+                || (BANGLA.equals(target) && !TranslationService.isMostlyBengali(result.get()))) {
+            return text;
+        }
+        String translated = result.get();
+        recent.put(key, translated);
+        try {
+            repository.save(TranslationMemoryEntry.builder()
+                    .contentHash(hash)
+                    .sourceLanguage(source)
+                    .targetLanguage(target)
+                    .translatedText(translated)
+                    .createdAt(Instant.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // Another request translated the same text first; either copy will do
+            log.debug("Translation already remembered for {}", hash);
+        } catch (RuntimeException e) {
+            log.warn("Could not remember translation: {}", e.getMessage());
+        }
+        return translated;
+    }
+
+    private static boolean usable(TranslationMemoryEntry entry) {
+        return !BANGLA.equals(entry.getTargetLanguage()) || TranslationService.isMostlyBengali(entry.getTranslatedText());
+    }
+
+    private static String key(String hash, String source, String target) {
+        return source + '>' + target + ':' + hash;
+    }
+
+    private static String hash(String text) {
+        return ConditionalPageFetcher.sha256(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
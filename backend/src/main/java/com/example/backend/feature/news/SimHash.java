@@ -0,0 +1,69 @@
+package com.example.backend.feature.news;
+
+import java.util.Set;
+
+/**
+ * 64-bit SimHash over content words. Two texts telling the same story in
+ * slightly different words land a few bits apart, so near-duplicates are found
+ * by Hamming distance instead of exact comparison. Function words are dropped
+ * and English plurals folded, since rewrites of a headline mostly differ in
+ * exactly those.
+ */
+public final class SimHash {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "the", "of", "for", "to", "in", "on", "at", "by", "with", "from", "as", "and", "or",
+            "is", "are", "was", "were", "be", "been", "will", "has", "have", "had", "it", "its", "this", "that",
+            "says", "said", "s",
+            "ও", "এবং", "এ", "এই", "থেকে", "জন্য", "করে", "হয়", "হবে", "না", "নিয়ে", "বলে");
+
+    private SimHash() {}
+
+    public static long fingerprint(String text) {
+        int[] weights = new int[64];
+        for (String token : NewsSearchIndex.tokenize(text)) {
+            if (!STOP_WORDS.contains(token)) {
+                add(weights, hash(fold(token)));
+            }
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // "crops" and "crop", "farmers" and "farmer" count as the same word
+    private static String fold(String token) {
+        boolean latin = token.charAt(0) < 0x80;
+        return latin && token.length() > 4 && token.endsWith("s") ? token.substring(0, token.length() - 1) : token;
+    }
+
+    private static void add(int[] weights, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            weights[bit] += ((hash >>> bit) & 1L) != 0 ? 1 : -1;
+        }
+    }
+
+    // FNV-1a with a final avalanche so short tokens spread across all 64 bits
+    private static long hash(String token) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,414 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.dto.weather.response.CropSpecificAdvice;
+import com.example.backend.dto.weather.response.CurrentWeather;
+import com.example.backend.dto.weather.response.WeatherForecast;
+import com.example.backend.dto.weather.response.WeatherTrend;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Weather-driven farming advice as a declarative rule table. Each rule is a
+ * conjunction of threshold tests on a feature (temperature, humidity, trend
+ * streaks, ...) plus its Bangla and English text. Rules are evaluated column
+ * by column over many locations at once: a test produces a bitmask of the
+ * lanes it holds for, and a lane's matched rules form one mask per section.
+ * The text for a (section, mask, language) combination is assembled once and
+ * shared by every lane and request that hits it.
+ */
+@Component
+public class FarmingAdviceEngine {
+
+    public enum Feature {
+        TEMPERATURE, HUMIDITY, RAINFALL, TREND_RAINFALL, DRY_DAYS, HUMID_STREAK,
+        FORECAST_MAX_RAIN, FORECAST_MAX_TEMP, DAY_MAX_TEMP, DAY_RAINFALL, DAY_RAINY_CONDITION
+    }
+
+    public enum Section { GENERAL, ACTIONS, IRRIGATION, PEST, HARVEST, DAY_PLAN, DAILY_TIP }
+
+    public enum Language { BANGLA, ENGLISH }
+
+    private enum Mode { CONCAT, LIST, FIRST }
+
+    private enum Op { GT, GE, LT }
+
+    private record Test(Feature feature, Op op, double threshold) {
+        boolean holds(double value) {
+            // NaN (missing data) never satisfies a test
+            return switch (op) {
+                case GT -> value > threshold;
+                case GE -> value >= threshold;
+                case LT -> value < threshold;
+            };
+        }
+    }
+
+    private record Rule(Section section, List<Test> tests, List<String> bangla, List<String> english) {}
+
+    private record SectionSpec(Mode mode, List<String> defaultBangla, List<String> defaultEnglish,
+                               String suffixBangla, String suffixEnglish, boolean alwaysSuffix) {}
+
+    public record Advice(String general, String forecastGeneral, List<String> immediateActions, String irrigation, String pestDiseaseRisk,
+                         String harvest, List<String> weeklyPlan) {}
+
+    public record LocationAdvice(Advice bangla, Advice english) {
+        public Advice forLanguage(String language) {
+            return "en".equalsIgnoreCase(language) ? english : bangla;
+        }
+    }
+
+    public record AdviceInput(CurrentWeather current, List<WeatherForecast> forecast, WeatherTrend trend) {}
+
+    private static final String FORECAST_GENERAL_BANGLA = "আগামী ৫ দিনের আবহাওয়া অনুযায়ী কৃষিকাজের পরিকল্পনা করুন।";
+    private static final String FORECAST_GENERAL_ENGLISH = "Plan farm work around the weather of the next 5 days.";
+
+    private static final Section[] LOCATION_SECTIONS =
+            {Section.GENERAL, Section.ACTIONS, Section.IRRIGATION, Section.PEST, Section.HARVEST};
+    private static final Section[] DAY_SECTIONS = {Section.DAY_PLAN, Section.DAILY_TIP};
+
+    private final Map<Section, SectionSpec> specs = new EnumMap<>(Section.class);
+    private final Map<Section, List<Rule>> rules = new EnumMap<>(Section.class);
+    private final Map<Section, Map<Long, List<String>>[]> rendered = new EnumMap<>(Section.class);
+    private final List<CropSpecificAdvice> defaultCropAdvice;
+
+    public FarmingAdviceEngine() {
+        compileRules();
+        for (Section section : Section.values()) {
+            rules.putIfAbsent(section, List.of());
+            if (rules.get(section).size() > Long.SIZE) {
+                throw new IllegalStateException("Too many advice rules in " + section);
+            }
+            @SuppressWarnings("unchecked")
+            Map<Long, List<String>>[] byLanguage = new Map[]{new ConcurrentHashMap<>(), new ConcurrentHashMap<>()};
+            rendered.put(section, byLanguage);
+        }
+        this.defaultCropAdvice = compileCropAdvice();
+    }
+
+    // One pass over every input: location sections across inputs, day sections across all forecast days
+    public List<LocationAdvice> evaluate(List<AdviceInput> inputs) {
+        int lanes = inputs.size();
+        double[][] features = new double[Feature.values().length][lanes];
+        for (double[] column : features) {
+            Arrays.fill(column, Double.NaN);
+        }
+
+        int dayLanes = 0;
+        for (int lane = 0; lane < lanes; lane++) {
+            AdviceInput input = inputs.get(lane);
+            fillLocationFeatures(features, lane, input);
+            dayLanes += input.forecast() != null ? input.forecast().size() : 0;
+        }
+
+        double[][] dayFeatures = new double[Feature.values().length][dayLanes];
+        for (double[] column : dayFeatures) {
+            Arrays.fill(column, Double.NaN);
+        }
+        int dayLane = 0;
+        for (AdviceInput input : inputs) {
+            if (input.forecast() != null) {
+                for (WeatherForecast day : input.forecast()) {
+                    fillDayFeatures(dayFeatures, dayLane++, day.getCondition(), value(day.getMaxTemp()), value(day.getRainfall()));
+                }
+            }
+        }
+
+        long[][] locationMasks = match(LOCATION_SECTIONS, features, lanes);
+        long[][] dayMasks = match(DAY_SECTIONS, dayFeatures, dayLanes);
+
+        List<LocationAdvice> result = new ArrayList<>(lanes);
+        dayLane = 0;
+        for (int lane = 0; lane < lanes; lane++) {
+            List<WeatherForecast> forecast = inputs.get(lane).forecast();
+            int days = forecast != null ? forecast.size() : 0;
+            result.add(new LocationAdvice(
+                    advice(Language.BANGLA, locationMasks, lane, forecast, dayMasks[0], dayLane),
+                    advice(Language.ENGLISH, locationMasks, lane, forecast, dayMasks[0], dayLane)));
+            dayLane += days;
+        }
+        return result;
+    }
+
+    public LocationAdvice evaluate(AdviceInput input) {
+        return evaluate(List.of(input)).get(0);
+    }
+
+    // Per forecast day, attached in Bangla while parsing provider payloads
+    public String dailyTip(String condition, double maxTemp, double rainfall) {
+        return dailyTip(condition, maxTemp, rainfall, "bn");
+    }
+
+    public String dailyTip(String condition, double maxTemp, double rainfall, String language) {
+        double[][] dayFeatures = new double[Feature.values().length][1];
+        fillDayFeatures(dayFeatures, 0, condition, maxTemp, rainfall);
+        long mask = match(new Section[]{Section.DAILY_TIP}, dayFeatures, 1)[0][0];
+        return text(Section.DAILY_TIP, mask, "en".equalsIgnoreCase(language) ? Language.ENGLISH : Language.BANGLA);
+    }
+
+    public List<CropSpecificAdvice> defaultCropAdvice() {
+        return defaultCropAdvice;
+    }
+
+    private Advice advice(Language language, long[][] locationMasks, int lane,
+                          List<WeatherForecast> forecast, long[] dayPlanMasks, int firstDayLane) {
+        List<String> weeklyPlan = new ArrayList<>();
+        if (forecast != null) {
+            for (int i = 0; i < forecast.size(); i++) {
+                weeklyPlan.add(forecast.get(i).getDate() + ": " + text(Section.DAY_PLAN, dayPlanMasks[firstDayLane + i], language));
+            }
+        }
+        return new Advice(
+                text(Section.GENERAL, locationMasks[0][lane], language),
+                language == Language.BANGLA ? FORECAST_GENERAL_BANGLA : FORECAST_GENERAL_ENGLISH,
+                items(Section.ACTIONS, locationMasks[1][lane], language),
+                text(Section.IRRIGATION, locationMasks[2][lane], language),
+                text(Section.PEST, locationMasks[3][lane], language),
+                text(Section.HARVEST, locationMasks[4][lane], language),
+                List.copyOf(weeklyPlan));
+    }
+
+    // masks[section][lane]: bit i set when rule i of the section matched that lane
+    private long[][] match(Section[] sections, double[][] features, int lanes) {
+        long[][] masks = new long[sections.length][lanes];
+        boolean[] holds = new boolean[lanes];
+
+        for (int s = 0; s < sections.length; s++) {
+            List<Rule> sectionRules = rules.get(sections[s]);
+            for (int r = 0; r < sectionRules.size(); r++) {
+                Arrays.fill(holds, true);
+                for (Test test : sectionRules.get(r).tests()) {
+                    double[] column = features[test.feature().ordinal()];
+                    for (int lane = 0; lane < lanes; lane++) {
+                        holds[lane] &= test.holds(column[lane]);
+                    }
+                }
+                long bit = 1L << r;
+                for (int lane = 0; lane < lanes; lane++) {
+                    if (holds[lane]) {
+                        masks[s][lane] |= bit;
+                    }
+                }
+            }
+        }
+        return masks;
+    }
+
+    private String text(Section section, long mask, Language language) {
+        return items(section, mask, language).get(0);
+    }
+
+    private List<String> items(Section section, long mask, Language language) {
+        return rendered.get(section)[language.ordinal()].computeIfAbsent(mask, m -> render(section, m, language));
+    }
+
+    private List<String> render(Section section, long mask, Language language) {
+        SectionSpec spec = specs.get(section);
+        List<Rule> sectionRules = rules.get(section);
+        boolean bangla = language == Language.BANGLA;
+
+        List<String> matched = new ArrayList<>();
+        for (int r = 0; r < sectionRules.size(); r++) {
+            if ((mask & (1L << r)) != 0) {
+                matched.addAll(bangla ? sectionRules.get(r).bangla() : sectionRules.get(r).english());
+                if (spec.mode() == Mode.FIRST) {
+                    break;
+                }
+            }
+        }
+
+        if (spec.mode() == Mode.LIST) {
+            return List.copyOf(matched.isEmpty() ? (bangla ? spec.defaultBangla() : spec.defaultEnglish()) : matched);
+        }
+
+        String suffix = bangla ? spec.suffixBangla() : spec.suffixEnglish();
+        String body = String.join("", matched);
+        if (matched.isEmpty() && !spec.alwaysSuffix()) {
+            return List.of((bangla ? spec.defaultBangla() : spec.defaultEnglish()).get(0));
+        }
+        return List.of((body + (suffix != null ? suffix : "")).intern());
+    }
+
+    private static void fillLocationFeatures(double[][] features, int lane, AdviceInput input) {
+        CurrentWeather current = input.current();
+        if (current != null) {
+            features[Feature.TEMPERATURE.ordinal()][lane] = value(current.getTemperature());
+            features[Feature.HUMIDITY.ordinal()][lane] = value(current.getHumidity());
+            features[Feature.RAINFALL.ordinal()][lane] = value(current.getRainfall());
+        }
+
+        WeatherTrend trend = input.trend() != null ? input.trend() : WeatherTrend.empty();
+        features[Feature.TREND_RAINFALL.ordinal()][lane] = trend.getTotalRainfall();
+        features[Feature.DRY_DAYS.ordinal()][lane] = trend.getDryDays();
+        features[Feature.HUMID_STREAK.ordinal()][lane] = trend.getHumidStreakDays();
+
+        double maxRain = Double.NaN;
+        double maxTemp = Double.NaN;
+        if (input.forecast() != null) {
+            for (WeatherForecast day : input.forecast()) {
+                maxRain = max(maxRain, value(day.getRainfall()));
+                maxTemp = max(maxTemp, value(day.getMaxTemp()));
+            }
+        }
+        features[Feature.FORECAST_MAX_RAIN.ordinal()][lane] = maxRain;
+        features[Feature.FORECAST_MAX_TEMP.ordinal()][lane] = maxTemp;
+    }
+
+    private static void fillDayFeatures(double[][] features, int lane, String condition, double maxTemp, double rainfall) {
+        features[Feature.DAY_MAX_TEMP.ordinal()][lane] = maxTemp;
+        features[Feature.DAY_RAINFALL.ordinal()][lane] = rainfall;
+        features[Feature.DAY_RAINY_CONDITION.ordinal()][lane] =
+                condition != null && condition.toLowerCase(Locale.ROOT).contains("rain") ? 1 : 0;
+    }
+
+    private static double max(double current, double candidate) {
+        if (Double.isNaN(candidate)) {
+            return current;
+        }
+        return Double.isNaN(current) ? candidate : Math.max(current, candidate);
+    }
+
+    private static double value(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    // ---- Rule table ----
+
+    private void compileRules() {
+        section(Section.GENERAL, Mode.CONCAT,
+                "আজকের আবহাওয়া কৃষিকাজের জন্য উপযুক্ত।", "Today's weather is suitable for farm work.");
+        rule(Section.GENERAL, "আজ খুব গরম পড়বে। ফসলে বেশি পানি দিন এবং দুপুরের রোদ থেকে রক্ষা করুন। ",
+                "It will be very hot today. Water crops more and shield them from the midday sun. ",
+                test(Feature.TEMPERATURE, Op.GT, 35));
+        rule(Section.GENERAL, "আজ ঠান্ডা আছে। ফসল ঠান্ডা থেকে রক্ষা করুন এবং পানি কম দিন। ",
+                "It is cold today. Protect crops from the cold and water less. ",
+                test(Feature.TEMPERATURE, Op.LT, 15));
+        rule(Section.GENERAL, "আর্দ্রতা বেশি, ছত্রাক রোগের সম্ভাবনা আছে। ",
+                "Humidity is high, fungal disease is likely. ",
+                test(Feature.HUMIDITY, Op.GT, 80));
+        rule(Section.GENERAL, "আজ বৃষ্টি হয়েছে। জমিতে পানি জমতে দিবেন না। ",
+                "It has rained today. Do not let water stand in the field. ",
+                test(Feature.RAINFALL, Op.GT, 10));
+
+        section(Section.ACTIONS, Mode.LIST, List.of("নিয়মিত ফসল পরিদর্শন করুন"), List.of("Inspect crops regularly"),
+                null, null, false);
+        rule(Section.ACTIONS, List.of("সকাল বা বিকালে সেচ দিন", "ফসলে ছায়ার ব্যবস্থা করুন"),
+                List.of("Irrigate in the morning or afternoon", "Arrange shade for crops"),
+                test(Feature.TEMPERATURE, Op.GT, 35));
+        rule(Section.ACTIONS, List.of("ছত্রাকনাশক স্প্রে করুন", "জমিতে বাতাস চলাচলের ব্যবস্থা করুন"),
+                List.of("Spray fungicide", "Keep air moving through the field"),
+                test(Feature.HUMIDITY, Op.GT, 80));
+        rule(Section.ACTIONS, List.of("জমি থেকে অতিরিক্ত পানি বের করুন", "নালা পরিষ্কার করুন"),
+                List.of("Drain excess water from the field", "Clear the drainage channels"),
+                test(Feature.RAINFALL, Op.GT, 20));
+
+        // First matching rule wins
+        section(Section.IRRIGATION, Mode.FIRST,
+                "মাটির অবস্থা দেখে প্রয়োজন অনুযায়ী সেচ দিন।", "Irrigate as needed, based on soil condition.");
+        rule(Section.IRRIGATION, "আজ বৃষ্টি হয়েছে, তাই সেচের প্রয়োজন নেই। আগামীকাল মাটির অবস্থা দেখে সেচ দিন।",
+                "It rained today, so no irrigation is needed. Check the soil tomorrow before irrigating.",
+                test(Feature.RAINFALL, Op.GT, 15));
+        rule(Section.IRRIGATION, "গত এক সপ্তাহে ৪০ মিমির বেশি বৃষ্টি হয়েছে। মাটি ভেজা থাকলে সেচ বন্ধ রাখুন।",
+                "More than 40 mm of rain fell over the past week. Hold irrigation while the soil is wet.",
+                test(Feature.TREND_RAINFALL, Op.GT, 40));
+        rule(Section.IRRIGATION, "টানা ৫ দিন বা তার বেশি বৃষ্টি হয়নি এবং গরম পড়ছে। সকাল বা সন্ধ্যায় নিয়মিত সেচ দিন।",
+                "No rain for 5 or more days and it is hot. Irrigate regularly in the morning or evening.",
+                test(Feature.DRY_DAYS, Op.GE, 5), test(Feature.TEMPERATURE, Op.GT, 30));
+        rule(Section.IRRIGATION, "গরম এবং শুষ্ক আবহাওয়া। সকাল বা সন্ধ্যায় পর্যাপ্ত সেচ দিন।",
+                "Hot and dry weather. Irrigate well in the morning or evening.",
+                test(Feature.TEMPERATURE, Op.GT, 32), test(Feature.HUMIDITY, Op.LT, 60));
+        rule(Section.IRRIGATION, "আর্দ্রতা বেশি। সেচ কম দিন এবং মাটিতে জল জমতে দিবেন না।",
+                "Humidity is high. Irrigate less and do not let water stand on the soil.",
+                test(Feature.HUMIDITY, Op.GT, 85));
+
+        section(Section.PEST, Mode.CONCAT, List.of("রোগ ও পোকার ঝুঁকি কম। তবে নিয়মিত পরিদর্শন করুন।"),
+                List.of("Low disease and pest risk. Keep inspecting regularly."),
+                "নিয়মিত ফসল পরিদর্শন করুন।", "Inspect crops regularly.", false);
+        rule(Section.PEST, "টানা কয়েক দিন আর্দ্রতা বেশি, ব্লাস্ট ও পচন রোগের ঝুঁকি বেড়েছে। ",
+                "Several humid days in a row have raised the risk of blast and rot. ",
+                test(Feature.HUMID_STREAK, Op.GE, 3));
+        rule(Section.PEST, "ছত্রাক রোগের ঝুঁকি বেশি। ", "High risk of fungal disease. ",
+                test(Feature.HUMIDITY, Op.GT, 80), test(Feature.TEMPERATURE, Op.GT, 25));
+        rule(Section.PEST, "পোকামাকড়ের আক্রমণের সম্ভাবনা আছে। ", "Insect attacks are likely. ",
+                test(Feature.TEMPERATURE, Op.GT, 30), test(Feature.HUMIDITY, Op.LT, 70));
+        rule(Section.PEST, "অতিরিক্ত বৃষ্টির কারণে রোগের ঝুঁকি বেড়েছে। ", "Excess rain has raised disease risk. ",
+                test(Feature.RAINFALL, Op.GT, 25));
+
+        section(Section.HARVEST, Mode.FIRST,
+                "আবহাওয়া ফসল কাটার জন্য উপযুক্ত। উপযুক্ত সময়ে ফসল কাটুন।",
+                "Weather is suitable for harvesting. Harvest at the right time.");
+        rule(Section.HARVEST, "আগামী দিনগুলোতে ভারী বৃষ্টির সম্ভাবনা। পাকা ফসল তাড়াতাড়ি কেটে নিন।",
+                "Heavy rain is likely in the coming days. Harvest ripe crops early.",
+                test(Feature.FORECAST_MAX_RAIN, Op.GT, 20));
+        rule(Section.HARVEST, "তাপপ্রবাহের আগে পাকা ফসল কাটার চেষ্টা করুন।",
+                "Try to harvest ripe crops before the heat wave.",
+                test(Feature.FORECAST_MAX_TEMP, Op.GT, 38));
+
+        section(Section.DAY_PLAN, Mode.FIRST, "স্বাভাবিক কৃষিকাজ করুন", "Normal farm work");
+        rule(Section.DAY_PLAN, "বৃষ্টির দিন - জমি পরিদর্শন করুন", "Rainy day - inspect the field",
+                test(Feature.DAY_RAINFALL, Op.GT, 10));
+        rule(Section.DAY_PLAN, "গরমের দিন - সকালে সেচ দিন", "Hot day - irrigate in the morning",
+                test(Feature.DAY_MAX_TEMP, Op.GT, 35));
+        rule(Section.DAY_PLAN, "ঠান্ডার দিন - ফসল রক্ষা করুন", "Cold day - protect crops",
+                test(Feature.DAY_MAX_TEMP, Op.LT, 20));
+
+        // The inspection reminder is appended whether or not anything matched
+        section(Section.DAILY_TIP, Mode.FIRST, List.of(""), List.of(""),
+                "নিয়মিত ফসল পরিদর্শন করুন।", "Inspect crops regularly.", true);
+        rule(Section.DAILY_TIP, "বৃষ্টির দিন - জমিতে পানি জমতে দিবেন না। ", "Rainy day - do not let water stand in the field. ",
+                test(Feature.DAY_RAINY_CONDITION, Op.GT, 0));
+        rule(Section.DAILY_TIP, "বৃষ্টির দিন - জমিতে পানি জমতে দিবেন না। ", "Rainy day - do not let water stand in the field. ",
+                test(Feature.DAY_RAINFALL, Op.GT, 5));
+        rule(Section.DAILY_TIP, "গরমের দিন - সকাল বা বিকালে সেচ দিন। ", "Hot day - irrigate in the morning or afternoon. ",
+                test(Feature.DAY_MAX_TEMP, Op.GT, 35));
+        rule(Section.DAILY_TIP, "ঠান্ডার দিন - ফসল ঠান্ডা থেকে রক্ষা করুন। ", "Cold day - protect crops from the cold. ",
+                test(Feature.DAY_MAX_TEMP, Op.LT, 20));
+    }
+
+    private static List<CropSpecificAdvice> compileCropAdvice() {
+        return List.of(
+                CropSpecificAdvice.builder()
+                        .cropName("Rice")
+                        .cropNameBangla("ধান")
+                        .advice("নিয়মিত পানির ব্যবস্থা রাখুন এবং আগাছা পরিষ্কার করুন")
+                        .riskLevel("LOW")
+                        .actions(List.of("সেচ দিন", "সার প্রয়োগ করুন"))
+                        .build(),
+                CropSpecificAdvice.builder()
+                        .cropName("Wheat")
+                        .cropNameBangla("গম")
+                        .advice("মাটির আর্দ্রতা ঠিক রাখুন এবং রোগ দমনের ব্যবস্থা করুন")
+                        .riskLevel("MEDIUM")
+                        .actions(List.of("পরিমিত সেচ", "ছত্রাকনাশক প্রয়োগ"))
+                        .build(),
+                CropSpecificAdvice.builder()
+                        .cropName("Vegetables")
+                        .cropNameBangla("সবজি")
+                        .advice("নিয়মিত পরিচর্যা করুন এবং পোকামাকড়ের আক্রমণ থেকে রক্ষা করুন")
+                        .riskLevel("MEDIUM")
+                        .actions(List.of("নিয়মিত সেচ", "জৈব সার প্রয়োগ"))
+                        .build());
+    }
+
+    private void section(Section section, Mode mode, String defaultBangla, String defaultEnglish) {
+        section(section, mode, List.of(defaultBangla), List.of(defaultEnglish), null, null, false);
+    }
+
+    private void section(Section section, Mode mode, List<String> defaultBangla, List<String> defaultEnglish,
+                         String suffixBangla, String suffixEnglish, boolean alwaysSuffix) {
+        specs.put(section, new SectionSpec(mode, defaultBangla, defaultEnglish, suffixBangla, suffixEnglish, alwaysSuffix));
+    }
+
+    private void rule(Section section, String bangla, String english, Test... tests) {
+        rule(section, List.of(bangla), List.of(english), tests);
+    }
+
+    private void rule(Section section, List<String> bangla, List<String> english, Test... tests) {
+        rules.computeIfAbsent(section, key -> new ArrayList<>()).add(new Rule(section, List.of(tests), bangla, english));
+    }
+
+    private static Test test(Feature feature, Op op, double threshold) {
+        return new Test(feature, op, threshold);
+    }
+}
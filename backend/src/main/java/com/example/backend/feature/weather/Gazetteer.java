@@ -0,0 +1,346 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.feature.weather.GazetteerEntry.Level;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Immutable table of every division, district and upazila, loaded once at startup
+ * from {@code weather/gazetteer.csv}. Upazilas without their own coordinates are
+ * still indexed by name and take their district's weather. Name lookups fold the
+ * input into a per-thread buffer and probe an open-addressing table, and
+ * nearest-point lookups walk a fixed grid, so neither allocates once warmed up.
+ */
+@Component
+@Slf4j
+public class Gazetteer {
+
+    private static final String RESOURCE = "weather/gazetteer.csv";
+    private static final int MAX_NAME_LENGTH = 96;
+    private static final double CELL_DEGREES = 0.25;
+
+    // Words that say what kind of place it is rather than which place it is
+    private static final char[][] STOPWORDS = {
+            "district".toCharArray(), "zila".toCharArray(), "zilla".toCharArray(),
+            "division".toCharArray(), "upazila".toCharArray(), "upozila".toCharArray(),
+            "thana".toCharArray(), "city".toCharArray(), "bangladesh".toCharArray(), "bd".toCharArray()
+    };
+
+    private static final ThreadLocal<char[]> FOLD_BUFFER = ThreadLocal.withInitial(() -> new char[MAX_NAME_LENGTH]);
+
+    private final GazetteerEntry[] entries;
+    private final List<GazetteerEntry> districts;
+    private final int[][] children;
+    private final char[][][] foldedNames;
+
+    private final char[][] nameKeys;
+    private final int[] nameValues;
+    private final int nameMask;
+
+    private final double minLatitude;
+    private final double minLongitude;
+    private final int gridRows;
+    private final int gridColumns;
+    private final int[][] grid;
+
+    public Gazetteer() {
+        List<String[]> rows = readRows();
+        List<GazetteerEntry> loaded = new ArrayList<>(rows.size());
+        Map<String, GazetteerEntry> divisionsByName = new HashMap<>();
+        Map<String, GazetteerEntry> districtsByName = new HashMap<>();
+        Map<GazetteerEntry, List<String>> aliases = new LinkedHashMap<>();
+
+        // Rows are processed level by level so parents always exist before their children
+        for (Level level : Level.values()) {
+            for (String[] row : rows) {
+                if (Level.valueOf(row[0]) != level) continue;
+
+                GazetteerEntry parent = switch (level) {
+                    case DIVISION -> null;
+                    case DISTRICT -> divisionsByName.get(row[1]);
+                    case UPAZILA -> districtsByName.get(row[2]);
+                };
+                boolean ownCoordinates = !row[5].isEmpty();
+
+                GazetteerEntry entry = new GazetteerEntry(loaded.size(), level, row[3], row[4], row[1],
+                        row[2].isEmpty() ? null : row[2],
+                        ownCoordinates ? Double.parseDouble(row[5]) : parent.getLatitude(),
+                        ownCoordinates ? Double.parseDouble(row[6]) : parent.getLongitude(),
+                        parent, ownCoordinates);
+                loaded.add(entry);
+
+                if (level == Level.DIVISION) divisionsByName.put(entry.getName(), entry);
+                if (level == Level.DISTRICT) districtsByName.put(entry.getName(), entry);
+
+                List<String> names = new ArrayList<>();
+                names.add(entry.getName());
+                if (!entry.getNameBangla().isEmpty()) names.add(entry.getNameBangla());
+                if (!row[7].isEmpty()) names.addAll(Arrays.asList(row[7].split("\\|")));
+                aliases.put(entry, names);
+            }
+        }
+
+        this.entries = loaded.toArray(new GazetteerEntry[0]);
+        this.districts = loaded.stream().filter(entry -> entry.getLevel() == Level.DISTRICT).toList();
+
+        this.children = new int[entries.length][];
+        Map<Integer, List<Integer>> childIds = new HashMap<>();
+        for (GazetteerEntry entry : entries) {
+            if (entry.getParent() != null) {
+                childIds.computeIfAbsent(entry.getParent().getId(), id -> new ArrayList<>()).add(entry.getId());
+            }
+        }
+        for (GazetteerEntry entry : entries) {
+            children[entry.getId()] = childIds.getOrDefault(entry.getId(), List.of()).stream()
+                    .mapToInt(Integer::intValue).toArray();
+        }
+
+        this.foldedNames = new char[entries.length][][];
+        aliases.forEach((entry, names) -> foldedNames[entry.getId()] = names.stream()
+                .map(Gazetteer::foldToKey)
+                .filter(Objects::nonNull)
+                .toArray(char[][]::new));
+
+        // Name table: power-of-two open addressing, at most half full
+        int capacity = Integer.highestOneBit(Math.max(16, aliases.values().stream().mapToInt(List::size).sum() * 4));
+        this.nameKeys = new char[capacity][];
+        this.nameValues = new int[capacity];
+        this.nameMask = capacity - 1;
+        aliases.forEach((entry, names) -> names.forEach(name -> indexName(name, entry)));
+
+        // Spatial grid over every place that has its own coordinates
+        double minLat = Double.MAX_VALUE, minLon = Double.MAX_VALUE, maxLat = -Double.MAX_VALUE, maxLon = -Double.MAX_VALUE;
+        for (GazetteerEntry entry : entries) {
+            minLat = Math.min(minLat, entry.getLatitude());
+            minLon = Math.min(minLon, entry.getLongitude());
+            maxLat = Math.max(maxLat, entry.getLatitude());
+            maxLon = Math.max(maxLon, entry.getLongitude());
+        }
+        this.minLatitude = minLat;
+        this.minLongitude = minLon;
+        this.gridRows = (int) ((maxLat - minLat) / CELL_DEGREES) + 1;
+        this.gridColumns = (int) ((maxLon - minLon) / CELL_DEGREES) + 1;
+
+        List<List<Integer>> cells = new ArrayList<>(gridRows * gridColumns);
+        for (int i = 0; i < gridRows * gridColumns; i++) cells.add(new ArrayList<>());
+        for (GazetteerEntry entry : entries) {
+            if (entry.getLevel() != Level.DIVISION && entry.isOwnCoordinates()) {
+                cells.get(rowOf(entry.getLatitude()) * gridColumns + columnOf(entry.getLongitude())).add(entry.getId());
+            }
+        }
+        this.grid = cells.stream().map(cell -> cell.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
+
+        log.info("Gazetteer loaded: {} places, {} districts", entries.length, districts.size());
+    }
+
+    public List<GazetteerEntry> districts() {
+        return districts;
+    }
+
+    // Best match for a free-form name; districts win over divisions and upazilas of the same name
+    public GazetteerEntry lookup(CharSequence name) {
+        char[] buffer = FOLD_BUFFER.get();
+        int length = fold(name, buffer);
+        if (length <= 0) return null;
+
+        int slot = hash(buffer, length) & nameMask;
+        while (nameKeys[slot] != null) {
+            if (Arrays.equals(nameKeys[slot], 0, nameKeys[slot].length, buffer, 0, length)) {
+                return entries[nameValues[slot]];
+            }
+            slot = (slot + 1) & nameMask;
+        }
+        return null;
+    }
+
+    // Walks the profile hierarchy, returning the most specific place that matches
+    public GazetteerEntry resolve(String division, String district, String upazila) {
+        GazetteerEntry districtEntry = district != null ? lookup(district) : null;
+        if (districtEntry != null && districtEntry.getLevel() != Level.DISTRICT) {
+            districtEntry = null;
+        }
+
+        if (upazila != null) {
+            if (districtEntry != null) {
+                GazetteerEntry match = findChild(districtEntry, upazila);
+                if (match != null) return match;
+            } else {
+                GazetteerEntry match = lookup(upazila);
+                if (match != null && match.getLevel() == Level.UPAZILA) return match;
+            }
+        }
+
+        if (districtEntry != null) return districtEntry;
+        return division != null ? lookup(division) : null;
+    }
+
+    public GazetteerEntry nearest(double latitude, double longitude) {
+        int row = Math.max(0, Math.min(gridRows - 1, rowOf(latitude)));
+        int column = Math.max(0, Math.min(gridColumns - 1, columnOf(longitude)));
+        boolean insideGrid = row == rowOf(latitude) && column == columnOf(longitude);
+        double longitudeScale = Math.cos(Math.toRadians(latitude));
+
+        GazetteerEntry best = null;
+        double bestDistance = Double.MAX_VALUE;
+        int maxRing = Math.max(gridRows, gridColumns);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Once a match is found, rings further out than it cannot hold anything closer
+            double ringDistance = (ring - 1) * CELL_DEGREES * Math.min(1.0, longitudeScale);
+            if (insideGrid && best != null && ringDistance > 0 && ringDistance * ringDistance > bestDistance) break;
+
+            for (int r = row - ring; r <= row + ring; r++) {
+                if (r < 0 || r >= gridRows) continue;
+                for (int c = column - ring; c <= column + ring; c++) {
+                    if (c < 0 || c >= gridColumns) continue;
+                    if (Math.abs(r - row) != ring && Math.abs(c - column) != ring) continue;
+
+                    for (int id : grid[r * gridColumns + c]) {
+                        GazetteerEntry entry = entries[id];
+                        double dLat = entry.getLatitude() - latitude;
+                        double dLon = (entry.getLongitude() - longitude) * longitudeScale;
+                        double distance = dLat * dLat + dLon * dLon;
+                        if (distance < bestDistance) {
+                            bestDistance = distance;
+                            best = entry;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private GazetteerEntry findChild(GazetteerEntry parent, CharSequence name) {
+        char[] buffer = FOLD_BUFFER.get();
+        int length = fold(name, buffer);
+        if (length <= 0) return null;
+
+        for (int id : children[parent.getId()]) {
+            for (char[] folded : foldedNames[id]) {
+                if (Arrays.equals(folded, 0, folded.length, buffer, 0, length)) {
+                    return entries[id];
+                }
+            }
+        }
+        return null;
+    }
+
+    private static char[] foldToKey(String name) {
+        char[] buffer = new char[MAX_NAME_LENGTH];
+        int length = fold(name, buffer);
+        return length > 0 ? Arrays.copyOf(buffer, length) : null;
+    }
+
+    private void indexName(String name, GazetteerEntry entry) {
+        char[] key = foldToKey(name);
+        if (key == null) return;
+
+        int slot = hash(key, key.length) & nameMask;
+        while (nameKeys[slot] != null) {
+            if (Arrays.equals(nameKeys[slot], key)) {
+                // Same folded name twice: keep the coarser-but-more-useful level (district first)
+                if (priority(entry) < priority(entries[nameValues[slot]])) {
+                    nameValues[slot] = entry.getId();
+                }
+                return;
+            }
+            slot = (slot + 1) & nameMask;
+        }
+        nameKeys[slot] = key;
+        nameValues[slot] = entry.getId();
+    }
+
+    private static int priority(GazetteerEntry entry) {
+        return switch (entry.getLevel()) {
+            case DISTRICT -> 0;
+            case DIVISION -> 1;
+            case UPAZILA -> 2;
+        };
+    }
+
+    /**
+     * Folds a place name into {@code out}: letters, digits and combining marks only,
+     * lower-cased, with stopword tokens dropped, doubled letters collapsed and "sh"
+     * read as "s" so common transliterations (Barisal/Barishal, Comilla/Cumila) meet.
+     * Returns the folded length, or -1 when the name does not fit the buffer.
+     */
+    static int fold(CharSequence in, char[] out) {
+        if (in == null || in.length() > out.length) return -1;
+
+        int length = 0;
+        int i = 0;
+        while (i < in.length()) {
+            while (i < in.length() && !isNameChar(in.charAt(i))) i++;
+            int start = i;
+            while (i < in.length() && isNameChar(in.charAt(i))) i++;
+            if (start == i || isStopword(in, start, i)) continue;
+
+            for (int j = start; j < i; j++) {
+                char c = Character.toLowerCase(in.charAt(j));
+                if (length > 0) {
+                    char previous = out[length - 1];
+                    if (c == previous) continue;
+                    if (c == 'h' && previous == 's') continue;
+                }
+                out[length++] = c;
+            }
+        }
+        return length;
+    }
+
+    private static boolean isNameChar(char c) {
+        int type = Character.getType(c);
+        return Character.isLetterOrDigit(c) || type == Character.NON_SPACING_MARK
+                || type == Character.COMBINING_SPACING_MARK;
+    }
+
+    private static boolean isStopword(CharSequence in, int start, int end) {
+        for (char[] stopword : STOPWORDS) {
+            if (stopword.length != end - start) continue;
+            boolean same = true;
+            for (int k = 0; k < stopword.length && same; k++) {
+                same = Character.toLowerCase(in.charAt(start + k)) == stopword[k];
+            }
+            if (same) return true;
+        }
+        return false;
+    }
+
+    private static int hash(char[] key, int length) {
+        int h = 0;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + key[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private int rowOf(double latitude) {
+        return (int) Math.floor((latitude - minLatitude) / CELL_DEGREES);
+    }
+
+    private int columnOf(double longitude) {
+        return (int) Math.floor((longitude - minLongitude) / CELL_DEGREES);
+    }
+
+    private static List<String[]> readRows() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .skip(1)
+                    .filter(line -> !line.isBlank())
+                    .map(line -> line.split(",", -1))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load " + RESOURCE, e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.backend.feature.weather;
+
+import lombok.Getter;
+
+@Getter
+public class GazetteerEntry {
+
+    public enum Level { DIVISION, DISTRICT, UPAZILA }
+
+    private final int id;
+    private final Level level;
+    private final String name;
+    private final String nameBangla;
+    private final String division;
+    private final String district;
+    private final double latitude;
+    private final double longitude;
+    private final GazetteerEntry parent;
+    private final boolean ownCoordinates;
+
+    GazetteerEntry(int id, Level level, String name, String nameBangla, String division, String district,
+                   double latitude, double longitude, GazetteerEntry parent, boolean ownCoordinates) {
+        this.id = id;
+        this.level = level;
+        this.name = name;
+        this.nameBangla = nameBangla;
+        this.division = division;
+        this.district = district;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.parent = parent;
+        this.ownCoordinates = ownCoordinates;
+    }
+
+    // The place whose coordinates are actually queried: upazilas without their own
+    // coordinates share their district's weather
+    public GazetteerEntry weatherCell() {
+        return ownCoordinates || parent == null ? this : parent.weatherCell();
+    }
+}
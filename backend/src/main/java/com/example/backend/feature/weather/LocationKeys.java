@@ -0,0 +1,33 @@
+package com.example.backend.feature.weather;
+
+public final class LocationKeys {
+
+    private LocationKeys() {}
+
+    // "Cox's Bazar", "coxs-bazar" and " COXS BAZAR " all map to "coxs_bazar"
+    public static String normalize(String location) {
+        if (location == null) return "";
+
+        StringBuilder key = new StringBuilder(location.length());
+        boolean pendingSeparator = false;
+
+        for (int i = 0; i < location.length(); i++) {
+            char c = location.charAt(i);
+            if (c == '\'' || c == '’') {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c) || Character.getType(c) == Character.NON_SPACING_MARK
+                    || Character.getType(c) == Character.COMBINING_SPACING_MARK) {
+                if (pendingSeparator && key.length() > 0) {
+                    key.append('_');
+                }
+                key.append(Character.toLowerCase(c));
+                pendingSeparator = false;
+            } else {
+                pendingSeparator = true;
+            }
+        }
+
+        return key.toString();
+    }
+}
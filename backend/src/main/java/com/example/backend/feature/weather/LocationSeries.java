@@ -0,0 +1,212 @@
+package com.example.backend.feature.weather;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.TreeSet;
+
+/**
+ * Weather history for one location, kept column-wise in primitive arrays.
+ * Observations are append-only and time-ordered; daily rows (one per local
+ * date, last forecast wins) are kept sorted by epoch day. Missing values are
+ * stored as NaN. All access goes through the owning store's lock on this object.
+ */
+class LocationSeries {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Observations: epoch seconds + readings
+    long[] times = new long[INITIAL_CAPACITY];
+    float[] temperature = new float[INITIAL_CAPACITY];
+    float[] humidity = new float[INITIAL_CAPACITY];
+    float[] rainfall = new float[INITIAL_CAPACITY];
+    float[] windSpeed = new float[INITIAL_CAPACITY];
+    int size;
+
+    // Daily rows: epoch day (Asia/Dhaka) + aggregates
+    int[] days = new int[16];
+    float[] maxTemp = new float[16];
+    float[] minTemp = new float[16];
+    float[] dailyRainfall = new float[16];
+    float[] dailyHumidity = new float[16];
+    int daySize;
+
+    // What has not reached a segment file yet
+    int flushedObservations;
+    final TreeSet<Integer> dirtyDays = new TreeSet<>();
+    // What the last writePending put in a segment that may not be in place yet
+    int writtenObservations;
+    final TreeSet<Integer> writtenDays = new TreeSet<>();
+
+    void appendObservation(long time, float temp, float hum, float rain, float wind) {
+        if (size == times.length) {
+            int capacity = size * 2;
+            times = Arrays.copyOf(times, capacity);
+            temperature = Arrays.copyOf(temperature, capacity);
+            humidity = Arrays.copyOf(humidity, capacity);
+            rainfall = Arrays.copyOf(rainfall, capacity);
+            windSpeed = Arrays.copyOf(windSpeed, capacity);
+        }
+        // Keep the column sorted even when concurrent fetches finish out of order
+        times[size] = size > 0 ? Math.max(time, times[size - 1]) : time;
+        temperature[size] = temp;
+        humidity[size] = hum;
+        rainfall[size] = rain;
+        windSpeed[size] = wind;
+        size++;
+    }
+
+    void upsertDay(int day, float max, float min, float rain, float hum) {
+        int index = Arrays.binarySearch(days, 0, daySize, day);
+        if (index < 0) {
+            index = -index - 1;
+            if (daySize == days.length) {
+                int capacity = daySize * 2;
+                days = Arrays.copyOf(days, capacity);
+                maxTemp = Arrays.copyOf(maxTemp, capacity);
+                minTemp = Arrays.copyOf(minTemp, capacity);
+                dailyRainfall = Arrays.copyOf(dailyRainfall, capacity);
+                dailyHumidity = Arrays.copyOf(dailyHumidity, capacity);
+            }
+            int tail = daySize - index;
+            System.arraycopy(days, index, days, index + 1, tail);
+            System.arraycopy(maxTemp, index, maxTemp, index + 1, tail);
+            System.arraycopy(minTemp, index, minTemp, index + 1, tail);
+            System.arraycopy(dailyRainfall, index, dailyRainfall, index + 1, tail);
+            System.arraycopy(dailyHumidity, index, dailyHumidity, index + 1, tail);
+            daySize++;
+        }
+        days[index] = day;
+        maxTemp[index] = max;
+        minTemp[index] = min;
+        dailyRainfall[index] = rain;
+        dailyHumidity[index] = hum;
+        dirtyDays.add(day);
+        // Changed after being written out, so the pending segment no longer covers it
+        writtenDays.remove(day);
+    }
+
+    // First observation at or after the given time
+    int lowerBound(long time) {
+        int index = Arrays.binarySearch(times, 0, size, time);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && times[index - 1] == time) {
+            index--;
+        }
+        return index;
+    }
+
+    int dayIndex(int day) {
+        int index = Arrays.binarySearch(days, 0, daySize, day);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    // Drops everything older than the cutoff; flushed data is already on disk or expired with it
+    void trimBefore(long cutoffTime, int cutoffDay) {
+        int drop = lowerBound(cutoffTime);
+        if (drop > 0) {
+            int keep = size - drop;
+            System.arraycopy(times, drop, times, 0, keep);
+            System.arraycopy(temperature, drop, temperature, 0, keep);
+            System.arraycopy(humidity, drop, humidity, 0, keep);
+            System.arraycopy(rainfall, drop, rainfall, 0, keep);
+            System.arraycopy(windSpeed, drop, windSpeed, 0, keep);
+            size = keep;
+            flushedObservations = Math.max(0, flushedObservations - drop);
+            writtenObservations = Math.max(0, writtenObservations - drop);
+        }
+
+        int dropDays = dayIndex(cutoffDay);
+        if (dropDays > 0) {
+            int keep = daySize - dropDays;
+            System.arraycopy(days, dropDays, days, 0, keep);
+            System.arraycopy(maxTemp, dropDays, maxTemp, 0, keep);
+            System.arraycopy(minTemp, dropDays, minTemp, 0, keep);
+            System.arraycopy(dailyRainfall, dropDays, dailyRainfall, 0, keep);
+            System.arraycopy(dailyHumidity, dropDays, dailyHumidity, 0, keep);
+            daySize = keep;
+            dirtyDays.headSet(cutoffDay).clear();
+            writtenDays.headSet(cutoffDay).clear();
+        }
+    }
+
+    // Segment block: unflushed observations, then changed daily rows. Nothing counts as
+    // flushed until the store has moved the segment into place and calls markWritten
+    void writePending(DataOutputStream out, boolean everything) throws IOException {
+        int from = everything ? 0 : flushedObservations;
+        out.writeInt(size - from);
+        for (int i = from; i < size; i++) {
+            out.writeLong(times[i]);
+            out.writeFloat(temperature[i]);
+            out.writeFloat(humidity[i]);
+            out.writeFloat(rainfall[i]);
+            out.writeFloat(windSpeed[i]);
+        }
+
+        if (everything) {
+            out.writeInt(daySize);
+            for (int i = 0; i < daySize; i++) {
+                writeDay(out, i);
+            }
+        } else {
+            out.writeInt(dirtyDays.size());
+            for (int day : dirtyDays) {
+                writeDay(out, dayIndex(day));
+            }
+        }
+
+        writtenObservations = size;
+        writtenDays.clear();
+        writtenDays.addAll(dirtyDays);
+    }
+
+    void markWritten() {
+        flushedObservations = Math.max(flushedObservations, writtenObservations);
+        dirtyDays.removeAll(writtenDays);
+        writtenDays.clear();
+    }
+
+    // Observations already loaded from another segment (a fold interrupted before the
+    // originals were deleted) are skipped, so replay is idempotent per timestamp
+    void readBlock(DataInputStream in) throws IOException {
+        int observations = in.readInt();
+        for (int i = 0; i < observations; i++) {
+            long time = in.readLong();
+            float temp = in.readFloat();
+            float hum = in.readFloat();
+            float rain = in.readFloat();
+            float wind = in.readFloat();
+            if (!contains(time)) {
+                appendObservation(time, temp, hum, rain, wind);
+            }
+        }
+        int dayRows = in.readInt();
+        for (int i = 0; i < dayRows; i++) {
+            upsertDay(in.readInt(), in.readFloat(), in.readFloat(), in.readFloat(), in.readFloat());
+        }
+        flushedObservations = size;
+        writtenObservations = size;
+        dirtyDays.clear();
+        writtenDays.clear();
+    }
+
+    boolean hasPending() {
+        return flushedObservations < size || !dirtyDays.isEmpty();
+    }
+
+    private boolean contains(long time) {
+        int index = lowerBound(time);
+        return index < size && times[index] == time;
+    }
+
+    private void writeDay(DataOutputStream out, int index) throws IOException {
+        out.writeInt(days[index]);
+        out.writeFloat(maxTemp[index]);
+        out.writeFloat(minTemp[index]);
+        out.writeFloat(dailyRainfall[index]);
+        out.writeFloat(dailyHumidity[index]);
+    }
+}
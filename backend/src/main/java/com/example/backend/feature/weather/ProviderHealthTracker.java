@@ -0,0 +1,227 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.config.WeatherConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Keeps a sliding window of recent latency and failure samples per weather
+ * provider, with a circuit breaker on top. The breaker opens after repeated
+ * consecutive failures, rejects calls while open, and lets a single probe
+ * through once the cool-down has passed. The fallback chain asks it to rank
+ * providers so the fastest healthy one is tried first.
+ */
+@Component
+@Slf4j
+public class ProviderHealthTracker {
+
+    public enum BreakerState { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int MIN_SAMPLES = 3;
+
+    private final WeatherConfig config;
+    private final Map<WeatherProvider, ProviderStats> stats = new EnumMap<>(WeatherProvider.class);
+
+    public ProviderHealthTracker(WeatherConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        for (WeatherProvider provider : WeatherProvider.values()) {
+            ProviderStats providerStats = new ProviderStats(config.getHealthWindowSize());
+            stats.put(provider, providerStats);
+
+            Gauge.builder("weather.provider.breaker.open", providerStats, s -> s.state() == BreakerState.CLOSED ? 0 : 1)
+                    .tag("provider", provider.getDisplayName())
+                    .register(meterRegistry);
+            Gauge.builder("weather.provider.latency.mean", providerStats, ProviderStats::meanLatencyMs)
+                    .tag("provider", provider.getDisplayName())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    // Stable sort by score, so providers without enough samples keep their configured order
+    public <T> List<T> rank(List<T> items, Function<T, WeatherProvider> providerOf) {
+        List<T> ranked = new ArrayList<>(items);
+        ranked.sort(Comparator.comparingDouble(item -> score(providerOf.apply(item))));
+        return ranked;
+    }
+
+    public boolean allowRequest(WeatherProvider provider) {
+        return stats.get(provider).allowRequest(System.nanoTime(), openNanos());
+    }
+
+    public void recordSuccess(WeatherProvider provider, long latencyNanos) {
+        stats.get(provider).record(latencyNanos, false);
+    }
+
+    public void recordFailure(WeatherProvider provider, long latencyNanos) {
+        ProviderStats providerStats = stats.get(provider);
+        if (providerStats.record(latencyNanos, true) && providerStats.tripIfNeeded(
+                config.getBreakerFailureThreshold(), System.nanoTime())) {
+            log.warn("{} failed {} times in a row, skipping it for {} ms",
+                    provider.getDisplayName(), config.getBreakerFailureThreshold(), config.getBreakerOpenMs());
+        }
+    }
+
+    // A hedged call cancelled after another provider answered says how slow it was, not that it succeeded:
+    // it adds a latency sample but leaves the failure streak and breaker alone. One that had already run past
+    // the provider timeout would have failed anyway, and counts as a failure.
+    public void recordAbandoned(WeatherProvider provider, long elapsedNanos) {
+        if (elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(config.getProviderTimeoutMs())) {
+            recordFailure(provider, elapsedNanos);
+        } else {
+            stats.get(provider).recordLatency(elapsedNanos);
+        }
+    }
+
+    // A call rejected because of the request itself (unknown place, 4xx) says nothing about the provider;
+    // it only frees the half-open probe slot it may have held
+    public void recordIgnored(WeatherProvider provider) {
+        stats.get(provider).releaseProbe();
+    }
+
+    public BreakerState state(WeatherProvider provider) {
+        return stats.get(provider).state();
+    }
+
+    // Mean latency of the window plus a full request budget for every failure share
+    private double score(WeatherProvider provider) {
+        ProviderStats providerStats = stats.get(provider);
+        if (providerStats.state() != BreakerState.CLOSED) {
+            return Double.MAX_VALUE;
+        }
+        if (providerStats.samples() < MIN_SAMPLES) {
+            return 0;
+        }
+        return providerStats.meanLatencyMs() + providerStats.errorRate() * config.getRequestBudgetMs();
+    }
+
+    private long openNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(config.getBreakerOpenMs());
+    }
+
+    private static final class ProviderStats {
+        private final long[] latencies;
+        private final boolean[] failures;
+        private int next;
+        private int count;
+        private int failureCount;
+        private long latencySum;
+
+        private int consecutiveFailures;
+        private BreakerState state = BreakerState.CLOSED;
+        private long openedAt;
+        private long probeStartedAt;
+
+        ProviderStats(int windowSize) {
+            this.latencies = new long[windowSize];
+            this.failures = new boolean[windowSize];
+        }
+
+        synchronized boolean allowRequest(long now, long openNanos) {
+            if (state == BreakerState.OPEN && now - openedAt >= openNanos) {
+                state = BreakerState.HALF_OPEN;
+                probeStartedAt = 0;
+            }
+            if (state == BreakerState.CLOSED) {
+                return true;
+            }
+            // One probe at a time while half-open; a probe that never reported back is replaced
+            if (state == BreakerState.HALF_OPEN && (probeStartedAt == 0 || now - probeStartedAt >= openNanos)) {
+                probeStartedAt = now;
+                return true;
+            }
+            return false;
+        }
+
+        // Returns true when the sample was a failure that may need to trip the breaker
+        synchronized boolean record(long latencyNanos, boolean failed) {
+            addSample(latencyNanos, failed);
+            if (!failed) {
+                consecutiveFailures = 0;
+                if (state == BreakerState.HALF_OPEN) {
+                    // Recovered: forget the outage so the old failures don't keep it ranked last
+                    state = BreakerState.CLOSED;
+                    clearWindow();
+                }
+                return false;
+            }
+            consecutiveFailures++;
+            return true;
+        }
+
+        // Latency only; an abandoned half-open probe proved nothing, so the next call may probe again
+        synchronized void recordLatency(long latencyNanos) {
+            addSample(latencyNanos, false);
+            if (state == BreakerState.HALF_OPEN) {
+                probeStartedAt = 0;
+            }
+        }
+
+        synchronized void releaseProbe() {
+            if (state == BreakerState.HALF_OPEN) {
+                probeStartedAt = 0;
+            }
+        }
+
+        private void addSample(long latencyNanos, boolean failed) {
+            if (count == latencies.length) {
+                latencySum -= latencies[next];
+                if (failures[next]) {
+                    failureCount--;
+                }
+            } else {
+                count++;
+            }
+            latencies[next] = latencyNanos;
+            failures[next] = failed;
+            latencySum += latencyNanos;
+            if (failed) {
+                failureCount++;
+            }
+            next = (next + 1) % latencies.length;
+        }
+
+        synchronized boolean tripIfNeeded(int threshold, long now) {
+            boolean failedProbe = state == BreakerState.HALF_OPEN;
+            if (failedProbe || (state == BreakerState.CLOSED && consecutiveFailures >= threshold)) {
+                state = BreakerState.OPEN;
+                openedAt = now;
+                return !failedProbe;
+            }
+            return false;
+        }
+
+        synchronized BreakerState state() {
+            return state;
+        }
+
+        synchronized int samples() {
+            return count;
+        }
+
+        synchronized double meanLatencyMs() {
+            return count == 0 ? 0 : latencySum / (double) count / 1_000_000;
+        }
+
+        synchronized double errorRate() {
+            return count == 0 ? 0 : failureCount / (double) count;
+        }
+
+        private void clearWindow() {
+            next = 0;
+            count = 0;
+            failureCount = 0;
+            latencySum = 0;
+        }
+    }
+}
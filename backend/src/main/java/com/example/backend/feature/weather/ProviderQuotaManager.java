@@ -0,0 +1,122 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.config.WeatherConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Enforces each weather provider's published free-tier quota locally with one
+ * token bucket per quota window (per minute / day / month). A provider whose
+ * bucket is empty is skipped by the fallback chain before any HTTP call, and a
+ * 429 from the provider empties its buckets so we stop asking until they refill.
+ * Remaining tokens are published as weather.provider.quota.remaining.
+ */
+@Component
+@Slf4j
+public class ProviderQuotaManager {
+
+    private final Map<WeatherProvider, List<TokenBucket>> buckets = new EnumMap<>(WeatherProvider.class);
+    private final Map<WeatherProvider, Counter> rejected = new EnumMap<>(WeatherProvider.class);
+
+    public ProviderQuotaManager(WeatherConfig config, MeterRegistry meterRegistry) {
+        for (WeatherProvider provider : WeatherProvider.values()) {
+            WeatherConfig.Quota quota = config.getQuotas().get(provider);
+            List<TokenBucket> providerBuckets = new ArrayList<>();
+            if (quota != null) {
+                addBucket(providerBuckets, "minute", quota.getPerMinute(), Duration.ofMinutes(1));
+                addBucket(providerBuckets, "day", quota.getPerDay(), Duration.ofDays(1));
+                addBucket(providerBuckets, "month", quota.getPerMonth(), Duration.ofDays(30));
+            }
+            buckets.put(provider, providerBuckets);
+
+            for (TokenBucket bucket : providerBuckets) {
+                Gauge.builder("weather.provider.quota.remaining", bucket, b -> remaining(provider, b))
+                        .tag("provider", provider.getDisplayName())
+                        .tag("window", bucket.window())
+                        .baseUnit("calls")
+                        .register(meterRegistry);
+            }
+            rejected.put(provider, Counter.builder("weather.provider.quota.rejected")
+                    .tag("provider", provider.getDisplayName())
+                    .register(meterRegistry));
+        }
+    }
+
+    public boolean tryAcquire(WeatherProvider provider) {
+        return tryAcquire(provider, 1);
+    }
+
+    public boolean tryAcquire(WeatherProvider provider, int permits) {
+        List<TokenBucket> providerBuckets = buckets.get(provider);
+        synchronized (providerBuckets) {
+            for (TokenBucket bucket : providerBuckets) {
+                if (!bucket.has(permits)) {
+                    rejected.get(provider).increment();
+                    return false;
+                }
+            }
+            providerBuckets.forEach(bucket -> bucket.take(permits));
+            return true;
+        }
+    }
+
+    // Returns a permit taken for a call that was never the provider's to answer
+    public void release(WeatherProvider provider) {
+        List<TokenBucket> providerBuckets = buckets.get(provider);
+        synchronized (providerBuckets) {
+            providerBuckets.forEach(bucket -> bucket.giveBack(1));
+        }
+    }
+
+    // Runs a provider call, treating a 429 as proof the upstream quota is spent
+    public <T> T call(WeatherProvider provider, Supplier<T> call) {
+        try {
+            return call.get();
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            log.warn("{} answered 429, pausing it until its quota refills", provider.getDisplayName());
+            exhaust(provider);
+            throw e;
+        }
+    }
+
+    public void exhaust(WeatherProvider provider) {
+        List<TokenBucket> providerBuckets = buckets.get(provider);
+        synchronized (providerBuckets) {
+            providerBuckets.forEach(TokenBucket::drain);
+        }
+    }
+
+    // Smallest remaining budget across windows; -1 when the provider has no configured quota
+    public long remaining(WeatherProvider provider) {
+        List<TokenBucket> providerBuckets = buckets.get(provider);
+        synchronized (providerBuckets) {
+            return providerBuckets.stream()
+                    .mapToLong(bucket -> (long) bucket.available())
+                    .min()
+                    .orElse(-1);
+        }
+    }
+
+    private double remaining(WeatherProvider provider, TokenBucket bucket) {
+        synchronized (buckets.get(provider)) {
+            return Math.floor(bucket.available());
+        }
+    }
+
+    private static void addBucket(List<TokenBucket> providerBuckets, String window, long capacity, Duration length) {
+        if (capacity > 0) {
+            providerBuckets.add(new TokenBucket(window, capacity, length.toNanos()));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.feature.weather;
+
+// Continuously refilling bucket: capacity tokens spread evenly over one window
+class TokenBucket {
+
+    private final String window;
+    private final long capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(String window, long capacity, long windowNanos) {
+        this.window = window;
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / windowNanos;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    String window() {
+        return window;
+    }
+
+    // Callers synchronize on the owning provider so multi-window checks stay atomic
+    boolean has(int permits) {
+        refill();
+        return tokens >= permits;
+    }
+
+    void take(int permits) {
+        tokens -= permits;
+    }
+
+    void giveBack(int permits) {
+        tokens = Math.min(capacity, tokens + permits);
+    }
+
+    void drain() {
+        refill();
+        tokens = 0;
+    }
+
+    double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
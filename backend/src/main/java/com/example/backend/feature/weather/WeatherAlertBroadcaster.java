@@ -0,0 +1,119 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.config.WebSocketSessionManager;
+import com.example.backend.dto.weather.response.WeatherAlert;
+import com.example.backend.entity.profile.FarmerProfile;
+import com.example.backend.repository.profile.FarmerProfileRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Pushes district weather alerts to connected farmers once per refresh cycle.
+ * Each district's alerts are diffed against the previous cycle, so a farmer
+ * receives an alert when it first appears or when its content changes, not on
+ * every refresh. Recipients are the online users whose farmer profile resolves
+ * to the district.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WeatherAlertBroadcaster {
+
+    private final WeatherSnapshotStore snapshotStore;
+    private final Gazetteer gazetteer;
+    private final FarmerProfileRepository farmerProfileRepository;
+    private final WebSocketSessionManager sessionManager;
+    private final ObjectMapper objectMapper;
+
+    // district -> alert identity (type + day) -> alert as last seen
+    private final Map<String, Map<String, WeatherAlert>> previousCycle = new HashMap<>();
+
+    public synchronized int broadcastChanges() {
+        Map<String, List<WeatherAlert>> changedByDistrict = new HashMap<>();
+
+        for (GazetteerEntry district : gazetteer.districts()) {
+            Optional<WeatherSnapshot> snapshot = snapshotStore.get(district.getName());
+            if (snapshot.isEmpty() || snapshot.get().getAlerts() == null) {
+                // No fresh data this cycle: keep the last known alerts so nothing is re-sent later
+                continue;
+            }
+
+            Map<String, WeatherAlert> current = new HashMap<>();
+            List<WeatherAlert> changed = new ArrayList<>();
+            Map<String, WeatherAlert> previous = previousCycle.getOrDefault(district.getName(), Map.of());
+
+            for (WeatherAlert alert : snapshot.get().getAlerts()) {
+                String identity = alert.getAlertType() + "@" + alert.getStartTime();
+                current.put(identity, alert);
+                if (!alert.equals(previous.get(identity))) {
+                    changed.add(alert);
+                }
+            }
+
+            previousCycle.put(district.getName(), current);
+            if (!changed.isEmpty()) {
+                changedByDistrict.put(district.getName(), changed);
+            }
+        }
+
+        if (changedByDistrict.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<Long>> recipients = onlineFarmersByDistrict(changedByDistrict.keySet());
+        int sent = 0;
+        for (Map.Entry<String, List<Long>> entry : recipients.entrySet()) {
+            String payload = alertMessage(entry.getKey(), changedByDistrict.get(entry.getKey()));
+            if (payload == null) {
+                continue;
+            }
+            for (Long userId : entry.getValue()) {
+                sessionManager.sendTextToUser(userId, payload);
+                sent++;
+            }
+        }
+
+        log.info("Weather alerts changed in {} districts, pushed to {} connected farmers",
+                changedByDistrict.size(), sent);
+        return sent;
+    }
+
+    // Only online users are looked up, so the profile query scales with connections, not with sign-ups
+    private Map<String, List<Long>> onlineFarmersByDistrict(Set<String> districts) {
+        Set<Long> online = sessionManager.getOnlineUsers();
+        if (online.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, List<Long>> byDistrict = new HashMap<>();
+        for (FarmerProfile profile : farmerProfileRepository.findAllById(online)) {
+            GazetteerEntry place = gazetteer.resolve(profile.getDivision(), profile.getDistrict(), profile.getUpazila());
+            if (place == null || place.getDistrict() == null) {
+                continue;
+            }
+            GazetteerEntry district = gazetteer.lookup(place.getDistrict());
+            if (district != null && districts.contains(district.getName())) {
+                byDistrict.computeIfAbsent(district.getName(), key -> new ArrayList<>()).add(profile.getUserId());
+            }
+        }
+        return byDistrict;
+    }
+
+    private String alertMessage(String district, List<WeatherAlert> alerts) {
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "action", "WEATHER_ALERT",
+                    "district", district,
+                    "alerts", alerts
+            ));
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize weather alerts for {}: {}", district, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.dto.weather.request.WeatherRequest;
+import com.example.backend.dto.weather.request.WeatherType;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+@Component("weatherCacheKeyGenerator")
+public class WeatherCacheKeyGenerator implements KeyGenerator {
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        WeatherRequest request = (WeatherRequest) params[0];
+        WeatherLocationResolver.ResolvedLocation location = (WeatherLocationResolver.ResolvedLocation) params[1];
+        WeatherType type = typeFor(method);
+
+        // Advice is only attached for some requests, so it has to be part of the key
+        boolean withAdvice = type == WeatherType.COMPREHENSIVE
+                ? request.getUserId() != null
+                : request.isIncludeFarmingAdvice() && request.getUserId() != null;
+
+        // Aliases, coordinates and profile lookups that land on the same place share the fetched data,
+        // but the response carries the caller's own label, so that is part of the key too
+        return LocationKeys.normalize(location.weatherKey())
+                + ':' + location.displayName()
+                + ':' + type
+                + ':' + (request.getLanguage() != null ? request.getLanguage() : "bn")
+                + ':' + (withAdvice ? "advice" : "plain");
+    }
+
+    private WeatherType typeFor(Method method) {
+        return switch (method.getName()) {
+            case "getCurrentWeather" -> WeatherType.CURRENT;
+            case "getWeatherForecast" -> WeatherType.FORECAST;
+            default -> WeatherType.COMPREHENSIVE;
+        };
+    }
+}
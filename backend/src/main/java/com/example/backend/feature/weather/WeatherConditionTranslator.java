@@ -0,0 +1,322 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.service.chatbot.TranslationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bangla labels for weather conditions, compiled once at startup. Provider
+ * condition codes (OpenWeatherMap ids, WeatherAPI codes, WMO codes used by
+ * Open-Meteo) index straight into arrays; free text goes through a normalized
+ * lookup table. Only text that none of the tables know reaches the translation
+ * service, and its answer is remembered so each phrase is translated once.
+ * A failed translation is remembered for a short while too, so an exhausted
+ * translation quota does not cost a blocking call on every request.
+ */
+@Component
+@Slf4j
+public class WeatherConditionTranslator {
+
+    private static final int MAX_LEARNED = 512;
+    private static final int WEATHER_API_BASE = 1000;
+    private static final long RETRY_FAILED_AFTER_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final TranslationService translationService;
+
+    private final String[] wmoEnglish = new String[100];
+    private final String[] wmoBangla = new String[100];
+    private final String[] openWeatherBangla = new String[900];
+    private final String[] weatherApiBangla = new String[300];
+    private final Map<String, String> byText = new HashMap<>();
+    private final Map<String, String> learned = new ConcurrentHashMap<>();
+    private final Map<String, Long> failedAt = new ConcurrentHashMap<>();
+
+    public WeatherConditionTranslator(TranslationService translationService) {
+        this.translationService = translationService;
+        compileTextTable();
+        compileWmoTable();
+        compileOpenWeatherTable();
+        compileWeatherApiTable();
+    }
+
+    // English description for an Open-Meteo (WMO) weather code
+    public String wmoDescription(int code) {
+        return code >= 0 && code < wmoEnglish.length ? wmoEnglish[code] : "Unknown";
+    }
+
+    public String fromWmoCode(int code) {
+        return code >= 0 && code < wmoBangla.length ? wmoBangla[code] : fromText(wmoDescription(code));
+    }
+
+    public String fromOpenWeatherId(int id, String text) {
+        String label = id >= 0 && id < openWeatherBangla.length ? openWeatherBangla[id] : null;
+        return label != null ? label : fromText(text);
+    }
+
+    public String fromWeatherApiCode(int code, String text) {
+        int index = code - WEATHER_API_BASE;
+        String label = index >= 0 && index < weatherApiBangla.length ? weatherApiBangla[index] : null;
+        return label != null ? label : fromText(text);
+    }
+
+    public String fromText(String condition) {
+        if (condition == null || condition.isBlank()) {
+            return "";
+        }
+
+        String key = normalize(condition);
+        String label = byText.get(key);
+        if (label != null) {
+            return label;
+        }
+
+        label = learned.get(key);
+        if (label != null) {
+            return label;
+        }
+
+        // Unseen phrase: translate once, then serve it from memory. A failed translation (the English
+        // text back, or the quota warning) is never learned; the phrase is retried after a pause.
+        String phrase = condition.trim();
+        Long failed = failedAt.get(key);
+        if (failed != null && System.nanoTime() - failed < RETRY_FAILED_AFTER_NANOS) {
+            return phrase;
+        }
+        Optional<String> translated = translationService.tryTranslateToBengali(phrase)
+                .filter(result -> !result.equals(phrase) && TranslationService.isMostlyBengali(result));
+        if (translated.isEmpty()) {
+            rememberFailure(key);
+            return phrase;
+        }
+        failedAt.remove(key);
+        if (learned.size() < MAX_LEARNED) {
+            learned.putIfAbsent(key, translated.get());
+            log.info("Learned Bangla label for weather condition '{}'", condition);
+        }
+        return translated.get();
+    }
+
+    public int learnedCount() {
+        return learned.size();
+    }
+
+    private void rememberFailure(String key) {
+        long now = System.nanoTime();
+        if (failedAt.size() >= MAX_LEARNED) {
+            failedAt.values().removeIf(failed -> now - failed >= RETRY_FAILED_AFTER_NANOS);
+        }
+        if (failedAt.size() < MAX_LEARNED) {
+            failedAt.put(key, now);
+        }
+    }
+
+    private static String normalize(String text) {
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private void text(String english, String bangla) {
+        byText.put(normalize(english), bangla);
+    }
+
+    private void compileTextTable() {
+        // Clear/Sunny
+        text("Clear", "পরিষ্কার");
+        text("Sunny", "রৌদ্রোজ্জ্বল");
+        text("Bright", "রৌদ্রোজ্জ্বল");
+
+        // Clouds
+        text("Clouds", "মেঘলা");
+        text("Cloudy", "মেঘলা");
+        text("Overcast", "ঘন মেঘলা");
+        text("Partly Cloudy", "আংশিক মেঘলা");
+        text("Mostly Cloudy", "প্রধানত মেঘলা");
+
+        // Rain
+        text("Rain", "বৃষ্টি");
+        text("Rainy", "বৃষ্টি");
+        text("Light Rain", "হালকা বৃষ্টি");
+        text("Moderate Rain", "মাঝারি বৃষ্টি");
+        text("Heavy Rain", "ভারী বৃষ্টি");
+        text("Showers", "ঝিরিঝিরি বৃষ্টি");
+        text("Drizzle", "গুঁড়ি গুঁড়ি বৃষ্টি");
+
+        // Thunderstorm
+        text("Thunderstorm", "বজ্রপাত");
+        text("Storm", "ঝড়");
+        text("Severe Thunderstorm", "তীব্র বজ্রঝড়");
+        text("Squall", "দমকা ঝড়");
+        text("Tornado", "টর্নেডো");
+
+        // Snow (for completeness, though Bangladesh rarely gets snow)
+        text("Snow", "তুষারপাত");
+        text("Snowy", "তুষারপাত");
+        text("Snow Showers", "তুষারের ঝাপটা");
+        text("Light Snow", "হালকা তুষারপাত");
+        text("Heavy Snow", "ভারী তুষারপাত");
+        text("Sleet", "শিলাবৃষ্টি");
+
+        // Fog/Mist/Haze and airborne particles
+        text("Fog", "কুয়াশা");
+        text("Foggy", "কুয়াশাচ্ছন্ন");
+        text("Mist", "হালকা কুয়াশা");
+        text("Haze", "ধোঁয়াশা");
+        text("Smoke", "ধোঁয়া");
+        text("Dust", "ধুলাবালি");
+        text("Sand", "বালুঝড়");
+        text("Ash", "ছাই");
+
+        // Wind
+        text("Wind", "ঝড়ো হাওয়া");
+        text("Windy", "ঝড়ো হাওয়া");
+        text("Strong Winds", "প্রবল বাতাস");
+
+        // Heat/Cold
+        text("Hot", "গরম");
+        text("Cold", "ঠান্ডা");
+        text("Freezing", "বরফ জমা ঠান্ডা");
+
+        text("Unknown", "অজানা");
+    }
+
+    private void compileWmoTable() {
+        // Coarse English groups, as the API has always reported them
+        for (int code = 0; code < wmoEnglish.length; code++) {
+            String english;
+            if (code == 0) english = "Clear";
+            else if (code <= 3) english = "Partly Cloudy";
+            else if (code <= 48) english = "Foggy";
+            else if (code <= 57) english = "Drizzle";
+            else if (code <= 67) english = "Rainy";
+            else if (code <= 77) english = "Snowy";
+            else if (code <= 82) english = "Heavy Rain";
+            else if (code <= 86) english = "Snow Showers";
+            else english = "Thunderstorm";
+            wmoEnglish[code] = english;
+            wmoBangla[code] = byText.get(normalize(english));
+        }
+
+        // Codes Open-Meteo actually emits get their precise label
+        wmo("পরিষ্কার আকাশ", 0);
+        wmo("প্রধানত পরিষ্কার", 1);
+        wmo("আংশিক মেঘলা", 2);
+        wmo("ঘন মেঘলা", 3);
+        wmo("কুয়াশা", 45);
+        wmo("জমাট কুয়াশা", 48);
+        wmo("হালকা গুঁড়ি গুঁড়ি বৃষ্টি", 51);
+        wmo("গুঁড়ি গুঁড়ি বৃষ্টি", 53);
+        wmo("ঘন গুঁড়ি গুঁড়ি বৃষ্টি", 55);
+        wmo("হিমশীতল গুঁড়ি গুঁড়ি বৃষ্টি", 56, 57);
+        wmo("হালকা বৃষ্টি", 61);
+        wmo("মাঝারি বৃষ্টি", 63);
+        wmo("ভারী বৃষ্টি", 65);
+        wmo("হিমশীতল বৃষ্টি", 66, 67);
+        wmo("হালকা তুষারপাত", 71);
+        wmo("তুষারপাত", 73, 77);
+        wmo("ভারী তুষারপাত", 75);
+        wmo("হালকা বৃষ্টির ঝাপটা", 80);
+        wmo("মাঝারি বৃষ্টির ঝাপটা", 81);
+        wmo("প্রবল বৃষ্টির ঝাপটা", 82);
+        wmo("তুষারের ঝাপটা", 85, 86);
+        wmo("বজ্রসহ বৃষ্টি", 95);
+        wmo("শিলাবৃষ্টিসহ বজ্রঝড়", 96, 99);
+    }
+
+    private void compileOpenWeatherTable() {
+        owmRange("বজ্রসহ বৃষ্টি", 200, 232);
+        owm("হালকা বজ্রঝড়", 210);
+        owm("বজ্রঝড়", 211);
+        owm("তীব্র বজ্রঝড়", 202, 212, 221);
+        owmRange("গুঁড়ি গুঁড়ি বৃষ্টি", 300, 321);
+        owm("হালকা গুঁড়ি গুঁড়ি বৃষ্টি", 300, 310);
+        owm("ঘন গুঁড়ি গুঁড়ি বৃষ্টি", 302, 312, 314);
+        owm("হালকা বৃষ্টি", 500);
+        owm("মাঝারি বৃষ্টি", 501);
+        owm("ভারী বৃষ্টি", 502);
+        owm("অতি ভারী বৃষ্টি", 503, 504);
+        owm("হিমশীতল বৃষ্টি", 511);
+        owm("হালকা বৃষ্টির ঝাপটা", 520);
+        owm("বৃষ্টির ঝাপটা", 521, 531);
+        owm("প্রবল বৃষ্টির ঝাপটা", 522);
+        owmRange("তুষারপাত", 600, 622);
+        owm("হালকা তুষারপাত", 600, 620);
+        owm("ভারী তুষারপাত", 602, 622);
+        owm("শিলাবৃষ্টি", 611, 612, 613, 615, 616);
+        owm("হালকা কুয়াশা", 701);
+        owm("ধোঁয়া", 711);
+        owm("ধোঁয়াশা", 721);
+        owm("ধুলাবালি", 731, 761);
+        owm("কুয়াশা", 741);
+        owm("বালুঝড়", 751);
+        owm("ছাই", 762);
+        owm("দমকা ঝড়", 771);
+        owm("টর্নেডো", 781);
+        owm("পরিষ্কার", 800);
+        owm("হালকা মেঘ", 801);
+        owm("আংশিক মেঘলা", 802);
+        owm("প্রধানত মেঘলা", 803);
+        owm("ঘন মেঘলা", 804);
+    }
+
+    private void compileWeatherApiTable() {
+        weatherApi("রৌদ্রোজ্জ্বল", 1000);
+        weatherApi("আংশিক মেঘলা", 1003);
+        weatherApi("মেঘলা", 1006);
+        weatherApi("ঘন মেঘলা", 1009);
+        weatherApi("হালকা কুয়াশা", 1030);
+        weatherApi("কোথাও কোথাও বৃষ্টির সম্ভাবনা", 1063);
+        weatherApi("কোথাও কোথাও তুষারপাতের সম্ভাবনা", 1066);
+        weatherApi("কোথাও কোথাও শিলাবৃষ্টির সম্ভাবনা", 1069);
+        weatherApi("কোথাও কোথাও হিমশীতল গুঁড়ি গুঁড়ি বৃষ্টির সম্ভাবনা", 1072);
+        weatherApi("বজ্রপাতের সম্ভাবনা", 1087);
+        weatherApi("তুষারঝড়", 1114, 1117);
+        weatherApi("কুয়াশা", 1135);
+        weatherApi("জমাট কুয়াশা", 1147);
+        weatherApi("হালকা গুঁড়ি গুঁড়ি বৃষ্টি", 1150, 1153);
+        weatherApi("হিমশীতল গুঁড়ি গুঁড়ি বৃষ্টি", 1168, 1171);
+        weatherApi("হালকা বৃষ্টি", 1180, 1183);
+        weatherApi("মাঝারি বৃষ্টি", 1186, 1189);
+        weatherApi("ভারী বৃষ্টি", 1192, 1195);
+        weatherApi("হিমশীতল বৃষ্টি", 1198, 1201);
+        weatherApi("শিলাবৃষ্টি", 1204, 1207, 1237, 1249, 1252, 1261, 1264);
+        weatherApi("হালকা তুষারপাত", 1210, 1213, 1255);
+        weatherApi("তুষারপাত", 1216, 1219);
+        weatherApi("ভারী তুষারপাত", 1222, 1225, 1258);
+        weatherApi("হালকা বৃষ্টির ঝাপটা", 1240);
+        weatherApi("প্রবল বৃষ্টির ঝাপটা", 1243);
+        weatherApi("মুষলধারে বৃষ্টি", 1246);
+        weatherApi("বজ্রসহ হালকা বৃষ্টি", 1273);
+        weatherApi("বজ্রসহ ভারী বৃষ্টি", 1276);
+        weatherApi("বজ্রসহ তুষারপাত", 1279, 1282);
+    }
+
+    private void wmo(String bangla, int... codes) {
+        for (int code : codes) {
+            wmoBangla[code] = bangla;
+        }
+    }
+
+    private void owm(String bangla, int... ids) {
+        for (int id : ids) {
+            openWeatherBangla[id] = bangla;
+        }
+    }
+
+    private void owmRange(String bangla, int from, int to) {
+        for (int id = from; id <= to; id++) {
+            openWeatherBangla[id] = bangla;
+        }
+    }
+
+    private void weatherApi(String bangla, int... codes) {
+        for (int code : codes) {
+            weatherApiBangla[code - WEATHER_API_BASE] = bangla;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.config.WeatherConfig;
+import com.example.backend.dto.weather.response.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Append-only weather history per location. Every successful fetch adds an
+ * observation (current conditions) and upserts one daily row per forecast day,
+ * held in memory as primitive columns. New rows are written out periodically
+ * as binary segment files and replayed on startup, so trends and history
+ * views never need another provider call. Only places the gazetteer knows
+ * get a series, so free-form request strings cannot grow the store.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WeatherHistoryStore {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Dhaka");
+
+    private static final int SEGMENT_MAGIC = 0x57485331; // "WHS1"
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final DateTimeFormatter SEGMENT_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZONE);
+    private static final float HUMID_THRESHOLD = 80f;
+    private static final float DRY_THRESHOLD_MM = 1f;
+
+    private final WeatherConfig config;
+    private final Gazetteer gazetteer;
+    private final Map<String, LocationSeries> series = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void load() {
+        Path dir = Paths.get(config.getHistoryDir());
+        List<Path> segments = listSegments(dir);
+        for (Path segment : segments) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+                if (in.readInt() != SEGMENT_MAGIC) {
+                    log.warn("Skipping weather history segment with unknown format: {}", segment);
+                    continue;
+                }
+                int locations = in.readInt();
+                for (int i = 0; i < locations; i++) {
+                    String key = in.readUTF();
+                    if (gazetteer.lookup(key) == null) {
+                        // Recorded before history was limited to known places; read past it and let the fold drop it
+                        new LocationSeries().readBlock(in);
+                        continue;
+                    }
+                    LocationSeries locationSeries = seriesFor(key);
+                    synchronized (locationSeries) {
+                        locationSeries.readBlock(in);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("Could not read weather history segment {}: {}", segment, e.getMessage());
+            }
+        }
+
+        if (!segments.isEmpty()) {
+            log.info("Loaded weather history for {} locations from {} segments", series.size(), segments.size());
+        }
+        // Fold the replayed segments into one so startup cost stays flat as history grows
+        if (segments.size() > 1 && writeSegment(true)) {
+            deleteSegments(segments);
+        }
+    }
+
+    public void recordObservation(String location, Instant time, CurrentWeather weather) {
+        LocationSeries locationSeries = weather != null ? knownSeries(location) : null;
+        if (locationSeries == null) {
+            return;
+        }
+        synchronized (locationSeries) {
+            locationSeries.appendObservation(time.getEpochSecond(), value(weather.getTemperature()),
+                    value(weather.getHumidity()), value(weather.getRainfall()), value(weather.getWindSpeed()));
+        }
+    }
+
+    public void recordForecast(String location, List<WeatherForecast> forecast) {
+        LocationSeries locationSeries = forecast != null && !forecast.isEmpty() ? knownSeries(location) : null;
+        if (locationSeries == null) {
+            return;
+        }
+        synchronized (locationSeries) {
+            for (WeatherForecast day : forecast) {
+                if (day.getDate() != null) {
+                    locationSeries.upsertDay((int) day.getDate().toEpochDay(), value(day.getMaxTemp()),
+                            value(day.getMinTemp()), value(day.getRainfall()), value(day.getHumidity()));
+                }
+            }
+        }
+    }
+
+    public List<WeatherObservation> observations(String location, Instant from, Instant to) {
+        LocationSeries locationSeries = series.get(LocationKeys.normalize(location));
+        if (locationSeries == null) {
+            return List.of();
+        }
+        synchronized (locationSeries) {
+            List<WeatherObservation> result = new ArrayList<>();
+            for (int i = locationSeries.lowerBound(from.getEpochSecond());
+                 i < locationSeries.size && locationSeries.times[i] < to.getEpochSecond(); i++) {
+                result.add(WeatherObservation.builder()
+                        .time(LocalDateTime.ofInstant(Instant.ofEpochSecond(locationSeries.times[i]), ZONE))
+                        .temperature(boxed(locationSeries.temperature[i]))
+                        .humidity(boxed(locationSeries.humidity[i]))
+                        .rainfall(boxed(locationSeries.rainfall[i]))
+                        .windSpeed(boxed(locationSeries.windSpeed[i]))
+                        .build());
+            }
+            return result;
+        }
+    }
+
+    // Inclusive date range
+    public List<DailyWeatherSummary> daily(String location, LocalDate from, LocalDate to) {
+        LocationSeries locationSeries = series.get(LocationKeys.normalize(location));
+        if (locationSeries == null) {
+            return List.of();
+        }
+        synchronized (locationSeries) {
+            List<DailyWeatherSummary> result = new ArrayList<>();
+            for (int i = locationSeries.dayIndex((int) from.toEpochDay());
+                 i < locationSeries.daySize && locationSeries.days[i] <= to.toEpochDay(); i++) {
+                result.add(DailyWeatherSummary.builder()
+                        .date(LocalDate.ofEpochDay(locationSeries.days[i]))
+                        .maxTemp(boxed(locationSeries.maxTemp[i]))
+                        .minTemp(boxed(locationSeries.minTemp[i]))
+                        .rainfall(boxed(locationSeries.dailyRainfall[i]))
+                        .humidity(boxed(locationSeries.dailyHumidity[i]))
+                        .build());
+            }
+            return result;
+        }
+    }
+
+    // Trend over the last `days` days up to and including today
+    public WeatherTrend trend(String location, int days) {
+        LocationSeries locationSeries = series.get(LocationKeys.normalize(location));
+        if (locationSeries == null) {
+            return WeatherTrend.empty();
+        }
+
+        int today = (int) LocalDate.now(ZONE).toEpochDay();
+        synchronized (locationSeries) {
+            int covered = 0;
+            double rain = 0;
+            double maxTempSum = 0;
+            int maxTempCount = 0;
+            int dryStreak = 0;
+            int humidStreak = 0;
+            boolean dryRunning = true;
+            boolean humidRunning = true;
+
+            // Walk backwards from today so streaks stop at the first day that breaks them
+            for (int day = today; day > today - days; day--) {
+                int index = locationSeries.dayIndex(day);
+                boolean hasRow = index < locationSeries.daySize && locationSeries.days[index] == day;
+                float dayRain = hasRow ? locationSeries.dailyRainfall[index] : Float.NaN;
+                float dayHumidity = observedHumidity(locationSeries, day);
+                if (Float.isNaN(dayHumidity) && hasRow) {
+                    dayHumidity = locationSeries.dailyHumidity[index];
+                }
+
+                if (hasRow || !Float.isNaN(dayHumidity)) {
+                    covered++;
+                }
+                if (!Float.isNaN(dayRain)) {
+                    rain += dayRain;
+                }
+                if (hasRow && !Float.isNaN(locationSeries.maxTemp[index])) {
+                    maxTempSum += locationSeries.maxTemp[index];
+                    maxTempCount++;
+                }
+
+                dryRunning &= !Float.isNaN(dayRain) && dayRain < DRY_THRESHOLD_MM;
+                if (dryRunning) {
+                    dryStreak++;
+                }
+                humidRunning &= !Float.isNaN(dayHumidity) && dayHumidity >= HUMID_THRESHOLD;
+                if (humidRunning) {
+                    humidStreak++;
+                }
+            }
+
+            return WeatherTrend.builder()
+                    .days(covered)
+                    .totalRainfall(rain)
+                    .dryDays(dryStreak)
+                    .humidStreakDays(humidStreak)
+                    .averageMaxTemp(maxTempCount > 0 ? maxTempSum / maxTempCount : null)
+                    .build();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${weather.history-flush-interval-ms:3600000}",
+            fixedDelayString = "${weather.history-flush-interval-ms:3600000}")
+    public void flush() {
+        Instant cutoff = Instant.now().minus(Duration.ofDays(config.getHistoryRetentionDays()));
+        int cutoffDay = (int) LocalDate.ofInstant(cutoff, ZONE).toEpochDay();
+        for (LocationSeries locationSeries : series.values()) {
+            synchronized (locationSeries) {
+                locationSeries.trimBefore(cutoff.getEpochSecond(), cutoffDay);
+            }
+        }
+
+        writeSegment(false);
+        deleteSegmentsOlderThan(cutoff);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writeSegment(false);
+    }
+
+    private synchronized boolean writeSegment(boolean everything) {
+        List<Map.Entry<String, LocationSeries>> pending = series.entrySet().stream()
+                .filter(entry -> everything || hasPending(entry.getValue()))
+                .toList();
+        if (pending.isEmpty()) {
+            return false;
+        }
+
+        Path dir = Paths.get(config.getHistoryDir());
+        Path target = dir.resolve(SEGMENT_NAME.format(Instant.now()) + SEGMENT_SUFFIX);
+        Path temp = dir.resolve(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(dir);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(SEGMENT_MAGIC);
+                out.writeInt(pending.size());
+                for (Map.Entry<String, LocationSeries> entry : pending) {
+                    out.writeUTF(entry.getKey());
+                    synchronized (entry.getValue()) {
+                        entry.getValue().writePending(out, everything);
+                    }
+                }
+            }
+            // Readers only ever see complete segments, and only a segment in place counts as flushed
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            for (Map.Entry<String, LocationSeries> entry : pending) {
+                synchronized (entry.getValue()) {
+                    entry.getValue().markWritten();
+                }
+            }
+            log.debug("Wrote weather history segment {} for {} locations", target.getFileName(), pending.size());
+            return true;
+        } catch (IOException e) {
+            log.error("Could not write weather history segment {}: {}", target, e.getMessage());
+            return false;
+        }
+    }
+
+    private void deleteSegmentsOlderThan(Instant cutoff) {
+        String oldestKept = SEGMENT_NAME.format(cutoff) + SEGMENT_SUFFIX;
+        deleteSegments(listSegments(Paths.get(config.getHistoryDir())).stream()
+                .filter(segment -> segment.getFileName().toString().compareTo(oldestKept) < 0)
+                .toList());
+    }
+
+    private void deleteSegments(List<Path> segments) {
+        for (Path segment : segments) {
+            try {
+                Files.deleteIfExists(segment);
+            } catch (IOException e) {
+                log.warn("Could not delete weather history segment {}: {}", segment, e.getMessage());
+            }
+        }
+    }
+
+    // Segment names sort chronologically
+    private static List<Path> listSegments(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Could not list weather history segments in {}: {}", dir, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static float observedHumidity(LocationSeries locationSeries, int epochDay) {
+        long start = LocalDate.ofEpochDay(epochDay).atStartOfDay(ZONE).toEpochSecond();
+        long end = start + Duration.ofDays(1).toSeconds();
+        double sum = 0;
+        int count = 0;
+        for (int i = locationSeries.lowerBound(start); i < locationSeries.size && locationSeries.times[i] < end; i++) {
+            if (!Float.isNaN(locationSeries.humidity[i])) {
+                sum += locationSeries.humidity[i];
+                count++;
+            }
+        }
+        return count > 0 ? (float) (sum / count) : Float.NaN;
+    }
+
+    private static boolean hasPending(LocationSeries locationSeries) {
+        synchronized (locationSeries) {
+            return locationSeries.hasPending();
+        }
+    }
+
+    private LocationSeries knownSeries(String location) {
+        String key = LocationKeys.normalize(location);
+        return gazetteer.lookup(key) != null ? seriesFor(key) : null;
+    }
+
+    private LocationSeries seriesFor(String key) {
+        return series.computeIfAbsent(key, k -> new LocationSeries());
+    }
+
+    private static float value(Double value) {
+        return value != null ? value.floatValue() : Float.NaN;
+    }
+
+    private static Double boxed(float value) {
+        return Float.isNaN(value) ? null : (double) value;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.dto.weather.request.WeatherRequest;
+import com.example.backend.repository.profile.FarmerProfileRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Turns whatever a request carries (a name, coordinates or just a farmer's id) into a gazetteer place
+@Component
+@RequiredArgsConstructor
+public class WeatherLocationResolver {
+
+    private final Gazetteer gazetteer;
+    private final FarmerProfileRepository farmerProfileRepository;
+
+    // weatherKey is the name weather is fetched and stored under; displayName is what the caller sees
+    public record ResolvedLocation(String weatherKey, String displayName, GazetteerEntry place) {}
+
+    public ResolvedLocation resolve(WeatherRequest request) {
+        String location = request.getLocation();
+        GazetteerEntry place = null;
+
+        if (location != null && !location.isBlank()) {
+            place = findPlace(location);
+        } else if (request.getLatitude() != null && request.getLongitude() != null) {
+            place = gazetteer.nearest(request.getLatitude(), request.getLongitude());
+        } else if (request.getUserId() != null) {
+            // Set by the controller from the authenticated caller, never taken from the request body
+            place = farmerProfileRepository.findById(request.getUserId())
+                    .map(profile -> gazetteer.resolve(profile.getDivision(), profile.getDistrict(), profile.getUpazila()))
+                    .orElse(null);
+        }
+
+        if (place == null) {
+            String raw = location != null ? location.trim() : "";
+            return new ResolvedLocation(raw, raw, null);
+        }
+
+        String displayName = location != null && !location.isBlank() ? location.trim() : place.getName();
+        return new ResolvedLocation(place.weatherCell().getName(), displayName, place);
+    }
+
+    public String weatherKey(String location) {
+        GazetteerEntry place = findPlace(location);
+        return place != null ? place.weatherCell().getName() : location.trim();
+    }
+
+    private GazetteerEntry findPlace(String location) {
+        int comma = location.indexOf(',');
+        if (comma > 0 && isNumber(location, 0, comma) && isNumber(location, comma + 1, location.length())) {
+            return gazetteer.nearest(Double.parseDouble(location.substring(0, comma).trim()),
+                    Double.parseDouble(location.substring(comma + 1).trim()));
+        }
+        return gazetteer.lookup(location);
+    }
+
+    // "23.81" or "-90": optional sign, digits, optional fraction, surrounding spaces allowed
+    private static boolean isNumber(String text, int from, int to) {
+        while (from < to && Character.isWhitespace(text.charAt(from))) from++;
+        while (to > from && Character.isWhitespace(text.charAt(to - 1))) to--;
+        if (from < to && text.charAt(from) == '-') from++;
+
+        int digits = 0;
+        while (from < to && isAsciiDigit(text.charAt(from))) {
+            from++;
+            digits++;
+        }
+        if (digits == 0) return false;
+        if (from < to && text.charAt(from) == '.') {
+            from++;
+            int fraction = 0;
+            while (from < to && isAsciiDigit(text.charAt(from))) {
+                from++;
+                fraction++;
+            }
+            if (fraction == 0) return false;
+        }
+        return from == to;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
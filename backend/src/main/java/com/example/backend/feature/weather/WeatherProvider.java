@@ -0,0 +1,17 @@
+package com.example.backend.feature.weather;
+
+public enum WeatherProvider {
+    OPEN_WEATHER_MAP("OpenWeatherMap"),
+    WEATHER_API("WeatherAPI"),
+    OPEN_METEO("OpenMeteo");
+
+    private final String displayName;
+
+    WeatherProvider(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
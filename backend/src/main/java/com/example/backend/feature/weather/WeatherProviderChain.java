@@ -0,0 +1,162 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.config.WeatherConfig;
+import com.example.backend.exception.UnknownLocationException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs a weather lookup against an ordered list of providers in hedged mode:
+ * the next provider is started when the current one fails or is still running
+ * after the hedge delay, and the first successful answer wins. The whole
+ * lookup is bounded by a single request budget instead of the sum of every
+ * provider's timeout. Providers are tried in order of observed health rather
+ * than the caller's preferred order once enough samples exist.
+ */
+@Component
+@Slf4j
+public class WeatherProviderChain {
+
+    private final WeatherConfig config;
+    private final ProviderQuotaManager quotaManager;
+    private final ProviderHealthTracker healthTracker;
+    private final ExecutorService executor;
+
+    public WeatherProviderChain(WeatherConfig config, ProviderQuotaManager quotaManager,
+                                ProviderHealthTracker healthTracker) {
+        this.config = config;
+        this.quotaManager = quotaManager;
+        this.healthTracker = healthTracker;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(config.getFetchThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "weather-fetch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public record ProviderCall<T>(WeatherProvider provider, Supplier<T> call) {}
+
+    public <T> T fetch(String operation, List<ProviderCall<T>> preferredOrder) {
+        if (preferredOrder.isEmpty()) {
+            throw new IllegalStateException("No weather providers available for " + operation);
+        }
+        List<ProviderCall<T>> calls = healthTracker.rank(preferredOrder, ProviderCall::provider);
+
+        CompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<T>> started = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getRequestBudgetMs());
+        long hedgeDelayNanos = TimeUnit.MILLISECONDS.toNanos(config.getHedgeDelayMs());
+
+        int next = 0;
+        int pending = 0;
+
+        try {
+            next = submitNext(operation, calls, next, completionService, started);
+            if (started.isEmpty()) {
+                throw new RuntimeException("No weather provider is available (quota or circuit open) for " + operation);
+            }
+            pending++;
+
+            while (pending > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    log.warn("{} exceeded its {} ms budget", operation, config.getRequestBudgetMs());
+                    break;
+                }
+
+                long wait = next < calls.size() ? Math.min(hedgeDelayNanos, remaining) : remaining;
+                Future<T> done = completionService.poll(wait, TimeUnit.NANOSECONDS);
+
+                if (done == null) {
+                    // Slow provider: hedge with the next one, keep the slow one running
+                    int before = started.size();
+                    next = submitNext(operation, calls, next, completionService, started);
+                    if (started.size() > before) {
+                        pending++;
+                    }
+                    continue;
+                }
+
+                pending--;
+                try {
+                    return done.get();
+                } catch (ExecutionException e) {
+                    log.warn("{} provider failed: {}", operation, e.getCause().getMessage());
+                    int before = started.size();
+                    next = submitNext(operation, calls, next, completionService, started);
+                    if (started.size() > before) {
+                        pending++;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            started.forEach(future -> future.cancel(true));
+        }
+
+        throw new RuntimeException("All weather providers failed for " + operation);
+    }
+
+    // Starts the next provider whose breaker and quota allow it; the rest are passed over without a request
+    private <T> int submitNext(String operation, List<ProviderCall<T>> calls, int next,
+                               CompletionService<T> completionService, List<Future<T>> started) {
+        while (next < calls.size()) {
+            ProviderCall<T> call = calls.get(next++);
+            if (!healthTracker.allowRequest(call.provider())) {
+                log.debug("{}: skipping {}, circuit open", operation, call.provider().getDisplayName());
+            } else if (!quotaManager.tryAcquire(call.provider())) {
+                log.debug("{}: skipping {}, quota exhausted", operation, call.provider().getDisplayName());
+            } else {
+                log.debug("{}: starting {}", operation, call.provider().getDisplayName());
+                started.add(completionService.submit(() -> timed(call)));
+                return next;
+            }
+        }
+        return next;
+    }
+
+    private <T> T timed(ProviderCall<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = quotaManager.call(call.provider(), call.call());
+            healthTracker.recordSuccess(call.provider(), System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            if (isCallerError(e)) {
+                // Bad input fails every provider alike; it must not open breakers or spend quota for other users
+                healthTracker.recordIgnored(call.provider());
+                quotaManager.release(call.provider());
+            } else if (Thread.currentThread().isInterrupted()) {
+                healthTracker.recordAbandoned(call.provider(), System.nanoTime() - start);
+            } else {
+                healthTracker.recordFailure(call.provider(), System.nanoTime() - start);
+            }
+            throw e;
+        }
+    }
+
+    // 429 is the provider rationing us, so it still counts
+    private static boolean isCallerError(RuntimeException e) {
+        if (e instanceof UnknownLocationException) {
+            return true;
+        }
+        return e instanceof HttpClientErrorException clientError
+                && clientError.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
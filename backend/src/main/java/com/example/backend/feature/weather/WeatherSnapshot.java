@@ -0,0 +1,31 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.dto.weather.response.CurrentWeather;
+import com.example.backend.dto.weather.response.WeatherAlert;
+import com.example.backend.dto.weather.response.WeatherForecast;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Builder(toBuilder = true)
+public class WeatherSnapshot {
+    private final String location;
+    private final CurrentWeather currentWeather;
+    private final List<WeatherForecast> forecast;
+    private final List<WeatherAlert> alerts;
+    private final Instant fetchedAt;
+    // Farming advice evaluated once per refresh cycle for the whole district set
+    private final FarmingAdviceEngine.LocationAdvice advice;
+
+    public Duration age() {
+        return Duration.between(fetchedAt, Instant.now());
+    }
+
+    public boolean isYoungerThan(Duration maxAge) {
+        return age().compareTo(maxAge) < 0;
+    }
+}
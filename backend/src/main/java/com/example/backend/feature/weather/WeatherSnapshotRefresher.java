@@ -0,0 +1,38 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.service.weather.WeatherService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WeatherSnapshotRefresher {
+
+    private final WeatherService weatherService;
+    private final WeatherAlertBroadcaster alertBroadcaster;
+
+    // Outbound calls per cycle are fixed by the number of known locations, not by traffic
+    @Scheduled(initialDelayString = "${weather.refresh-initial-delay-ms:10000}",
+            fixedDelayString = "${weather.refresh-interval-ms:900000}")
+    public void refreshAll() {
+        long start = System.currentTimeMillis();
+        List<String> locations = weatherService.getKnownLocations();
+
+        int refreshed = weatherService.refreshSnapshots(locations);
+        int failed = locations.size() - refreshed;
+
+        log.info("Weather snapshots refreshed: {} ok, {} failed in {} ms",
+                refreshed, failed, System.currentTimeMillis() - start);
+
+        try {
+            alertBroadcaster.broadcastChanges();
+        } catch (Exception e) {
+            log.error("Weather alert broadcast failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.backend.feature.weather;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory latest snapshot per location, written by the refresher and read on every request
+@Component
+public class WeatherSnapshotStore {
+
+    private final Map<String, WeatherSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    public Optional<WeatherSnapshot> get(String location) {
+        return Optional.ofNullable(snapshots.get(LocationKeys.normalize(location)));
+    }
+
+    public void put(WeatherSnapshot snapshot) {
+        snapshots.put(LocationKeys.normalize(snapshot.getLocation()), snapshot);
+    }
+
+    // Swaps in the replacement only if expected is still the stored snapshot; false when a newer one landed
+    public boolean replace(WeatherSnapshot expected, WeatherSnapshot replacement) {
+        return snapshots.replace(LocationKeys.normalize(expected.getLocation()), expected, replacement);
+    }
+
+    public Set<String> locations() {
+        return Set.copyOf(snapshots.keySet());
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.backend.repository.news;
+
+import com.example.backend.entity.news.NewsArticleRecord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NewsArticleRepository extends JpaRepository<NewsArticleRecord, Long> {
+
+    // Served by idx_news_articles_published
+    @Query("SELECT a FROM NewsArticleRecord a ORDER BY a.publishedDate DESC, a.id DESC")
+    List<NewsArticleRecord> findLatest(Pageable pageable);
+
+    @Query("SELECT a.articleKey FROM NewsArticleRecord a WHERE a.articleKey IN :keys")
+    List<String> findExistingKeys(@Param("keys") Collection<String> keys);
+
+    @Query("SELECT a.fingerprint FROM NewsArticleRecord a WHERE a.fingerprint IS NOT NULL AND a.fetchedAt >= :since")
+    List<Long> findFingerprintsFetchedSince(@Param("since") Instant since);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM NewsArticleRecord a WHERE a.publishedDate < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,25 @@
+package com.example.backend.repository.news;
+
+import com.example.backend.entity.news.NewsDuplicateKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NewsDuplicateKeyRepository extends JpaRepository<NewsDuplicateKey, Long> {
+
+    @Query("SELECT d.articleKey FROM NewsDuplicateKey d WHERE d.articleKey IN :keys")
+    List<String> findExistingKeys(@Param("keys") Collection<String> keys);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM NewsDuplicateKey d WHERE d.droppedAt < :cutoff")
+    int deleteDroppedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,24 @@
+package com.example.backend.repository.news;
+
+import com.example.backend.entity.news.NewsFetchState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NewsFetchStateRepository extends JpaRepository<NewsFetchState, Long> {
+
+    List<NewsFetchState> findByUrlKeyIn(Collection<String> urlKeys);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM NewsFetchState s WHERE s.checkedAt < :cutoff")
+    int deleteCheckedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,25 @@
+package com.example.backend.repository.news;
+
+import com.example.backend.entity.news.TranslationMemoryEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemoryEntry, Long> {
+
+    List<TranslationMemoryEntry> findBySourceLanguageAndTargetLanguageAndContentHashIn(
+            String sourceLanguage, String targetLanguage, Collection<String> contentHashes);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TranslationMemoryEntry t WHERE t.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -46,7 +48,22 @@ public class TranslationService {
             return englishText;
         }
 
-        return translateWithChunking(englishText, "en", "bn");
+        return translateWithChunking(englishText, "en", "bn", false);
+    }
+
+    /**
+     * Like translateToBengali, but empty when any part of the text could not be translated
+     * (network error, invalid result, quota used up) instead of falling back to the source
+     * text. For callers that keep translations.
+     */
+    public Optional<String> tryTranslateToBengali(String englishText) {
+        if (StringUtils.isBlank(englishText)) return Optional.empty();
+
+        if (containsBengaliScript(englishText)) {
+            return Optional.of(englishText);
+        }
+
+        return Optional.ofNullable(translateWithChunking(englishText, "en", "bn", true));
     }
 
     public String translateToEnglish(String bengaliText) {
@@ -58,22 +75,24 @@ public class TranslationService {
             return bengaliText;
         }
 
-        return translateWithChunking(bengaliText, "bn", "en");
+        return translateWithChunking(bengaliText, "bn", "en", false);
     }
 
     /**
-     * Translates text by breaking it into chunks if it's too long
+     * Translates text by breaking it into chunks if it's too long. A chunk that fails keeps its
+     * source text, or, when strict, the whole translation fails with null.
      */
-    private String translateWithChunking(String text, String sourceLanguage, String targetLanguage) {
+    private String translateWithChunking(String text, String sourceLanguage, String targetLanguage, boolean strict) {
         if (text.length() <= MAX_FREE_QUERY_LENGTH) {
             // Text is small enough, translate directly
-            return safeTranslate(text, sourceLanguage, targetLanguage);
+            String translated = safeTranslate(text, sourceLanguage, targetLanguage);
+            return translated != null || strict ? translated : fallBackToOriginal(text);
         }
 
         log.info("Text is too long ({} chars), breaking into chunks", text.length());
 
         // Break text into chunks
-        List<String> chunks = createIntelligentChunks(text);
+        List<String> chunks = createIntelligentChunks(text, strict);
         List<String> translatedChunks = new ArrayList<>();
 
         for (int i = 0; i < chunks.size(); i++) {
@@ -81,6 +100,12 @@ public class TranslationService {
             log.info("Translating chunk {}/{}: {} chars", i + 1, chunks.size(), chunk.length());
 
             String translatedChunk = safeTranslate(chunk, sourceLanguage, targetLanguage);
+            if (translatedChunk == null) {
+                if (strict) {
+                    return null; // no point spending quota on the rest
+                }
+                translatedChunk = fallBackToOriginal(chunk);
+            }
             translatedChunks.add(translatedChunk);
 
             // Add small delay between requests to be respectful to free APIs
@@ -101,9 +126,11 @@ public class TranslationService {
     }
 
     /**
-     * Creates intelligent chunks that try to preserve sentence and word boundaries
+     * Creates intelligent chunks that try to preserve sentence and word boundaries. Translations
+     * that are kept (strict) fold tiny chunks into their neighbour so no text is lost for good;
+     * the chatbot path drops them, as it always has.
      */
-    private List<String> createIntelligentChunks(String text) {
+    private List<String> createIntelligentChunks(String text, boolean keepSmallChunks) {
         List<String> chunks = new ArrayList<>();
 
         // First, try to split by sentences
@@ -138,11 +165,22 @@ public class TranslationService {
             chunks.add(currentChunk.toString().trim());
         }
 
-        // Filter out chunks that are too small (unless it's the only chunk)
-        if (chunks.size() > 1) {
+        if (chunks.size() > 1 && !keepSmallChunks) {
+            // Filter out chunks that are too small (unless it's the only chunk)
             chunks = chunks.stream()
                     .filter(chunk -> chunk.length() >= MIN_CHUNK_SIZE)
                     .collect(Collectors.toList());
+        } else if (chunks.size() > 1) {
+            // Fold chunks that are too small into their neighbour rather than losing their text
+            List<String> merged = new ArrayList<>();
+            for (String chunk : chunks) {
+                if (chunk.length() < MIN_CHUNK_SIZE && !merged.isEmpty()) {
+                    merged.set(merged.size() - 1, merged.get(merged.size() - 1) + " " + chunk);
+                } else {
+                    merged.add(chunk);
+                }
+            }
+            chunks = merged;
         }
 
         log.info("Created {} chunks from text of {} chars", chunks.size(), text.length());
@@ -179,9 +217,10 @@ public class TranslationService {
         return chunks;
     }
 
+    // Null when the text could not be translated
     private String safeTranslate(String text, String sourceLanguage, String targetLanguage) {
         try {
-            return translateWithMyMemoryService(text, sourceLanguage, targetLanguage);
+            return Objects.requireNonNullElse(translateWithMyMemoryService(text, sourceLanguage, targetLanguage), text);
         } catch (HttpClientErrorException e) {
             log.error("HTTP error during translation: {}", e.getMessage());
         } catch (ResourceAccessException e) {
@@ -190,6 +229,10 @@ public class TranslationService {
             log.error("Unexpected translation error: {}", e.getMessage());
         }
 
+        return null;
+    }
+
+    private String fallBackToOriginal(String text) {
         log.warn("Falling back to original text due to translation failure.");
         return text;
     }
@@ -225,7 +268,7 @@ public class TranslationService {
                 log.warn("LibreTranslate failed with status: {}", response.getStatusCode());
             }
 
-            return translateWithMyMemoryService(text, sourceLanguage, targetLanguage);
+            return Objects.requireNonNullElse(translateWithMyMemoryService(text, sourceLanguage, targetLanguage), text);
 
         } catch (HttpClientErrorException e) {
             log.error("LibreTranslate HTTP error: {}", e.getResponseBodyAsString());
@@ -235,7 +278,7 @@ public class TranslationService {
             log.error("LibreTranslate unexpected error: {}", e.getMessage());
         }
 
-        return translateWithMyMemoryService(text, sourceLanguage, targetLanguage);
+        return Objects.requireNonNullElse(translateWithMyMemoryService(text, sourceLanguage, targetLanguage), text);
     }
 
     private String translateWithMyMemoryService(String text, String sourceLanguage, String targetLanguage) {
@@ -266,6 +309,13 @@ public class TranslationService {
 
                         log.debug("Raw translation result: {}", result);
 
+                        // An exhausted quota still comes back as 200, with the warning as the "translation"
+                        if (Boolean.TRUE.equals(response.getBody().get("quotaFinished"))
+                                || result.regionMatches(true, 0, "MYMEMORY WARNING", 0, 16)) {
+                            log.warn("MyMemory free quota used up: {}", result);
+                            return null;
+                        }
+
                         // Clean up the translation result
                         result = cleanupEncodingIssues(result);
 
@@ -275,8 +325,8 @@ public class TranslationService {
                         if (isValidTranslation(result, text)) {
                             return result;
                         } else {
-                            log.warn("Translation result appears to be invalid, returning original text");
-                            return text;
+                            log.warn("Translation result appears to be invalid");
+                            return null;
                         }
                     } else {
                         log.warn("MyMemory returned unexpected translatedText format: {}", responseData);
@@ -292,8 +342,7 @@ public class TranslationService {
             log.error("MyMemory translation error: {}", e.getMessage());
         }
 
-        log.debug("Returning original text as fallback");
-        return text; // fallback to original text
+        return null;
     }
 
     /**
@@ -460,6 +509,27 @@ public class TranslationService {
         return text != null && text.matches(".*[\\u0980-\\u09FF].*");
     }
 
+    /**
+     * True when most letters in the text are Bengali script, i.e. it reads as a Bangla translation
+     * rather than English with a few Bangla words (or none)
+     */
+    public static boolean isMostlyBengali(String text) {
+        if (text == null) return false;
+        int letters = 0;
+        int bengali = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetter(c) || Character.getType(c) == Character.NON_SPACING_MARK
+                    || Character.getType(c) == Character.COMBINING_SPACING_MARK) {
+                letters++;
+                if (c >= '\u0980' && c <= '\u09FF') {
+                    bengali++;
+                }
+            }
+        }
+        return letters > 0 && bengali * 10 >= letters * 7;
+    }
+
     /**
      * Utility method to check if text needs translation
      */
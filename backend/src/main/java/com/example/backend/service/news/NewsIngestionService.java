@@ -0,0 +1,458 @@
+package com.example.backend.service.news;
+
+import com.example.backend.config.CacheConfig;
+import com.example.backend.dto.news.response.NewsArticle;
+import com.example.backend.dto.news.response.NewsSourceStatus;
+import com.example.backend.entity.news.NewsArticleRecord;
+import com.example.backend.entity.news.NewsDuplicateKey;
+import com.example.backend.feature.news.ArticleFetchScheduler;
+import com.example.backend.feature.news.ConditionalPageFetcher;
+import com.example.backend.feature.news.FarmingRelevanceMatcher;
+import com.example.backend.feature.news.NewsDateParser;
+import com.example.backend.feature.news.NewsFetchStateStore;
+import com.example.backend.feature.news.NewsSearchIndex;
+import com.example.backend.feature.news.NewsTranslationMemory;
+import com.example.backend.feature.news.SimHash;
+import com.example.backend.feature.news.NewsSource;
+import com.example.backend.feature.news.NewsSourceRegistry;
+import com.example.backend.repository.news.NewsArticleRepository;
+import com.example.backend.repository.news.NewsDuplicateKeyRepository;
+import com.example.backend.service.chatbot.TranslationService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * Crawls every registered news source and stores new farming articles in
+ * {@link NewsArticleRepository}. Runs on a schedule, so readers never wait on
+ * a scrape; articles are deduplicated by URL both within a crawl and against
+ * what is already stored.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NewsIngestionService {
+
+    private final NewsArticleRepository articleRepository;
+    private final NewsDuplicateKeyRepository duplicateKeyRepository;
+    private final CacheManager cacheManager;
+    private final ArticleFetchScheduler articleFetchScheduler;
+    private final NewsFetchStateStore fetchStateStore;
+    private final NewsSearchIndex searchIndex;
+    private final FarmingRelevanceMatcher relevanceMatcher;
+    private final NewsDateParser dateParser;
+    private final NewsTranslationMemory translationMemory;
+
+    private static final long BODY_DEADLINE_MARGIN_MS = 1000;
+
+    // Use central registry for sources
+    private final Map<String, NewsSource> newsSources = NewsSourceRegistry.getAllSources();
+    private final Map<String, NewsSourceStatus> sourceStatuses = new ConcurrentHashMap<>();
+
+    // One thread per source, so a slow site only ever occupies its own thread
+    private final ExecutorService executorService = Executors.newFixedThreadPool(newsSources.size(), runnable -> {
+        Thread thread = new Thread(runnable, "news-source");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${news.scraping.timeout:10000}")
+    private int scrapingTimeout;
+
+    @Value("${news.scraping.user-agent:Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36}")
+    private String userAgent;
+
+    @Value("${news.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${news.ingestion.deadline-ms:30000}")
+    private long crawlDeadlineMs;
+
+    @Value("${news.dedup.max-distance:8}")
+    private int duplicateMaxDistance;
+
+    @Value("${news.dedup.window-days:3}")
+    private int duplicateWindowDays;
+
+    // Returns the number of newly stored articles
+    public synchronized int ingest() {
+        List<SourceScrape> scrapes = scrapeAllSources();
+        List<NewsArticle> scraped = scrapes.stream()
+                .flatMap(scrape -> scrape.articles().stream())
+                .collect(Collectors.toList());
+
+        // Anything already past retention would be stored only to be purged below, and fetched again next crawl
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Map<String, NewsArticle> byKey = new LinkedHashMap<>();
+        int expired = 0;
+        for (NewsArticle article : scraped) {
+            if (article.getPublishedDate() != null && article.getPublishedDate().isBefore(cutoff)) {
+                expired++;
+                continue;
+            }
+            byKey.putIfAbsent(keyOf(article), article);
+        }
+
+        Set<String> existing = byKey.isEmpty() ? Set.of() : knownKeys(byKey.keySet());
+        byKey.keySet().removeAll(existing);
+        Instant now = Instant.now();
+        List<Candidate> representatives = collapseNearDuplicates(byKey, now);
+        List<NewsArticleRecord> fresh = representatives.stream()
+                .map(candidate -> toRecord(candidate, now))
+                .collect(Collectors.toList());
+        articleRepository.saveAll(fresh);
+        searchIndex.addAll(fresh);
+        recordDuplicates(byKey.keySet(), representatives, now);
+
+        // Validators are only kept once what they vouch for is stored; a crawl that dies earlier
+        // must not make the next one see "unchanged" and skip those pages for good
+        Map<String, ConditionalPageFetcher.Validators> validators = new HashMap<>();
+        scrapes.forEach(scrape -> validators.putAll(scrape.validators()));
+        fetchStateStore.recordAll(validators);
+
+        int purged = articleRepository.deletePublishedBefore(cutoff);
+        searchIndex.removePublishedBefore(cutoff);
+        fetchStateStore.purgeCheckedBefore(now.minus(Duration.ofDays(retentionDays)));
+        duplicateKeyRepository.deleteDroppedBefore(now.minus(Duration.ofDays(retentionDays)));
+        translationMemory.purgeCreatedBefore(now.minus(Duration.ofDays(retentionDays)));
+
+        // Cached responses (and their ETags) only change when the store did
+        if (!fresh.isEmpty() || purged > 0) {
+            Cache cache = cacheManager.getCache(CacheConfig.FARMING_NEWS_CACHE);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+
+        log.info("News ingestion: {} scraped, {} new, {} already stored, {} near-duplicates, {} past retention, {} purged",
+                scraped.size(), fresh.size(), existing.size(), byKey.size() - fresh.size(), expired, purged);
+        return fresh.size();
+    }
+
+    public List<String> getSourceNames() {
+        return new ArrayList<>(newsSources.keySet());
+    }
+
+    public List<NewsSourceStatus> getSourceStatuses() {
+        return sourceStatuses.values().stream()
+                .sorted(Comparator.comparing(NewsSourceStatus::getSource))
+                .collect(Collectors.toList());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    // All sources share one deadline; whatever has finished by then is used and the rest is dropped
+    private List<SourceScrape> scrapeAllSources() {
+        long startNanos = System.nanoTime();
+        // Article bodies stop slightly early so their source can still hand in its results
+        long bodyDeadline = startNanos + TimeUnit.MILLISECONDS.toNanos(crawlDeadlineMs - BODY_DEADLINE_MARGIN_MS);
+        Map<String, CompletableFuture<SourceScrape>> futures = new LinkedHashMap<>();
+        for (Map.Entry<String, NewsSource> entry : newsSources.entrySet()) {
+            String sourceName = entry.getKey();
+            CompletableFuture<SourceScrape> scrape = CompletableFuture
+                    .supplyAsync(() -> scrapeNewsFromSource(sourceName, entry.getValue(), bodyDeadline), executorService);
+            scrape.whenComplete((result, error) -> recordStatus(sourceName, result, error, startNanos));
+            futures.put(sourceName, scrape);
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(crawlDeadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("News crawl deadline of {} ms passed; using the sources that finished", crawlDeadlineMs);
+        } catch (ExecutionException e) {
+            // Individual failures are recorded per source below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<SourceScrape> completed = new ArrayList<>();
+        for (Map.Entry<String, CompletableFuture<SourceScrape>> entry : futures.entrySet()) {
+            CompletableFuture<SourceScrape> future = entry.getValue();
+            if (!future.isDone()) {
+                future.cancel(true);
+                sourceStatuses.put(entry.getKey(), NewsSourceStatus.builder()
+                        .source(entry.getKey())
+                        .state(NewsSourceStatus.State.TIMED_OUT)
+                        .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                        .checkedAt(LocalDateTime.now())
+                        .message("Missed the " + crawlDeadlineMs + " ms crawl deadline")
+                        .build());
+            } else if (!future.isCompletedExceptionally()) {
+                completed.add(future.join());
+            }
+        }
+        return completed;
+    }
+
+    private void recordStatus(String sourceName, SourceScrape result, Throwable error, long startNanos) {
+        if (error instanceof CancellationException) {
+            return; // recorded as timed out by the crawl
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        sourceStatuses.put(sourceName, NewsSourceStatus.builder()
+                .source(sourceName)
+                .state(error != null ? NewsSourceStatus.State.FAILED
+                        : result.unchanged() ? NewsSourceStatus.State.UNCHANGED : NewsSourceStatus.State.OK)
+                .articleCount(result != null ? result.articles().size() : 0)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .checkedAt(LocalDateTime.now())
+                .message(cause != null ? cause.getMessage() : null)
+                .build());
+    }
+
+    private SourceScrape scrapeNewsFromSource(String sourceName, NewsSource source, long bodyDeadline) {
+        log.info("Scraping news from: {} -> {}", sourceName, source.getUrl());
+
+        // A listing that cannot be fetched fails the source, so its status says so
+        ConditionalPageFetcher.Result listing;
+        try {
+            listing = ConditionalPageFetcher.fetch(source.getUrl(), userAgent, scrapingTimeout,
+                    fetchStateStore.get(source.getUrl()));
+        } catch (IOException e) {
+            log.error("Error scraping from {}: {}", sourceName, e.getMessage());
+            throw new UncheckedIOException(e);
+        }
+        // Handed back to ingest(), which records them once this source's articles are stored
+        Map<String, ConditionalPageFetcher.Validators> validators = new HashMap<>();
+        validators.put(source.getUrl(), listing.validators());
+        if (listing.unchanged()) {
+            log.info("Listing for {} unchanged since the last crawl; skipping", sourceName);
+            return new SourceScrape(List.of(), true, validators);
+        }
+
+        Elements newsItems = listing.document().select(source.getArticleSelector());
+        log.info("Found {} news items from {}", newsItems.size(), sourceName);
+
+        List<NewsArticle> candidates = new ArrayList<>();
+        for (Element item : newsItems.stream().limit(10).collect(Collectors.toList())) {
+            try {
+                NewsArticle article = extractArticleFromElement(item, source, sourceName);
+                if (article != null) {
+                    candidates.add(article);
+                }
+            } catch (Exception e) {
+                log.warn("Error extracting article from {}: {}", sourceName, e.getMessage());
+            }
+        }
+
+        // Articles already in the store need nothing further
+        Set<String> stored = candidates.isEmpty() ? Set.of() : knownKeys(
+                candidates.stream().map(NewsIngestionService::keyOf).collect(Collectors.toSet()));
+        candidates.removeIf(article -> stored.contains(keyOf(article)));
+
+        // Listings with short teasers need the article page; those are fetched together, politely,
+        // and conditionally against what the last crawl saw
+        List<String> bodyUrls = candidates.stream()
+                .filter(NewsIngestionService::needsBody)
+                .map(NewsArticle::getUrl)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, ConditionalPageFetcher.Validators> previous = fetchStateStore.getAll(bodyUrls);
+        Map<String, ConditionalPageFetcher.Validators> requests = new LinkedHashMap<>();
+        bodyUrls.forEach(url -> requests.put(url, previous.getOrDefault(url, ConditionalPageFetcher.Validators.NONE)));
+        Map<String, ConditionalPageFetcher.Result> pages = requests.isEmpty() ? Map.of()
+                : articleFetchScheduler.fetchAll(requests, bodyDeadline);
+        pages.forEach((url, page) -> validators.put(url, page.validators()));
+
+        List<NewsArticle> articles = new ArrayList<>();
+        for (NewsArticle article : candidates) {
+            if (needsBody(article)) {
+                ConditionalPageFetcher.Result page = pages.get(article.getUrl());
+                if (page != null && page.unchanged()) {
+                    // Its validators were only recorded after the last verdict on it was stored
+                    // (rejected as irrelevant or a duplicate); the same page gives the same verdict
+                    continue;
+                }
+                String content = page != null ? extractArticleContent(page.document()) : "";
+                article.setContent(content);
+                if (article.getSummary().isEmpty()) {
+                    article.setSummary(content.substring(0, Math.min(content.length(), 200)));
+                }
+            }
+            if (relevanceMatcher.isRelevant(article)) {
+                articles.add(article);
+            }
+        }
+
+        log.info("Successfully scraped {} articles from {} ({} article pages fetched)",
+                articles.size(), sourceName, pages.size());
+        return new SourceScrape(articles, false, validators);
+    }
+
+    private NewsArticle extractArticleFromElement(Element item, NewsSource source, String sourceName) {
+        try {
+            // Extract title and URL
+            Element titleElement = item.selectFirst(source.getTitleSelector());
+            if (titleElement == null) return null;
+
+            String title = titleElement.text().trim();
+            String url = titleElement.attr(source.getUrlAttribute());
+
+            // Make URL absolute if relative
+            if (url.startsWith("/")) {
+                url = getBaseUrl(source.getUrl()) + url;
+            }
+
+            // Extract summary
+            String summary = "";
+            Element summaryElement = item.selectFirst(source.getSummarySelector());
+            if (summaryElement != null) {
+                summary = summaryElement.text().trim();
+            }
+
+            // Extract date; undated items count as published now
+            Element dateElement = item.selectFirst(source.getDateSelector());
+            LocalDateTime publishedDate = Optional.ofNullable(dateElement)
+                    .flatMap(dateParser::parse)
+                    .orElseGet(LocalDateTime::now);
+
+            // Summary doubles as content unless the article page is fetched afterwards
+            return NewsArticle.builder()
+                    .title(title)
+                    .summary(summary)
+                    .content(summary)
+                    .url(url)
+                    .source(sourceName)
+                    .publishedDate(publishedDate)
+                    // Several sources publish in Bangla; the text, not the source, says which
+                    .language(TranslationService.isMostlyBengali(title + " " + summary) ? "bn" : "en")
+                    .build();
+
+        } catch (Exception e) {
+            log.warn("Error extracting article: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String extractArticleContent(Document doc) {
+        // Try common content selectors
+        String[] contentSelectors = {
+                "article p", ".content p", ".article-content p",
+                ".post-content p", ".entry-content p", "p"
+        };
+
+        for (String selector : contentSelectors) {
+            Elements paragraphs = doc.select(selector);
+            if (paragraphs.size() > 0) {
+                String content = paragraphs.stream()
+                        .map(Element::text)
+                        .limit(5) // Limit to first 5 paragraphs
+                        .collect(Collectors.joining(" "));
+
+                if (content.length() > 100) {
+                    return content.substring(0, Math.min(content.length(), 1000));
+                }
+            }
+        }
+
+        return "";
+    }
+
+    private String getBaseUrl(String fullUrl) {
+        try {
+            return fullUrl.substring(0, fullUrl.indexOf('/', 8)); // Find first '/' after protocol
+        } catch (Exception e) {
+            return fullUrl;
+        }
+    }
+
+    private record SourceScrape(List<NewsArticle> articles, boolean unchanged,
+                                Map<String, ConditionalPageFetcher.Validators> validators) {}
+
+    // Keys already stored, or already dropped as near-duplicates of something stored
+    private Set<String> knownKeys(Collection<String> keys) {
+        Set<String> known = new HashSet<>(articleRepository.findExistingKeys(keys));
+        known.addAll(duplicateKeyRepository.findExistingKeys(keys));
+        return known;
+    }
+
+    // Dropped copies are remembered for the retention period; the fingerprint window alone would
+    // let a syndicated copy back in once its original is older than the window
+    private void recordDuplicates(Set<String> candidateKeys, List<Candidate> representatives, Instant now) {
+        Set<String> kept = representatives.stream().map(Candidate::key).collect(Collectors.toSet());
+        List<NewsDuplicateKey> dropped = candidateKeys.stream()
+                .filter(key -> !kept.contains(key))
+                .map(key -> NewsDuplicateKey.builder().articleKey(key).droppedAt(now).build())
+                .collect(Collectors.toList());
+        duplicateKeyRepository.saveAll(dropped);
+    }
+
+    private static String keyOf(NewsArticle article) {
+        return NewsArticleRecord.keyFor(article.getUrl(), article.getSource(), article.getTitle());
+    }
+
+    // Teasers under 200 characters are not worth storing as content on their own
+    private static boolean needsBody(NewsArticle article) {
+        return !article.getUrl().isEmpty() && article.getSummary().length() < 200;
+    }
+
+    // The same story syndicated across sources is stored once: candidates are clustered by SimHash distance,
+    // against each other and against recently stored articles, and the fullest copy represents its cluster
+    private List<Candidate> collapseNearDuplicates(Map<String, NewsArticle> unseen, Instant now) {
+        List<Candidate> candidates = unseen.entrySet().stream()
+                .map(entry -> new Candidate(entry.getKey(), entry.getValue(),
+                        SimHash.fingerprint(entry.getValue().getTitle() + " " + entry.getValue().getSummary())))
+                .sorted(Comparator.comparingInt((Candidate candidate) -> lengthOf(candidate.article().getContent())).reversed())
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<Long> clusters = new ArrayList<>(articleRepository.findFingerprintsFetchedSince(
+                now.minus(Duration.ofDays(duplicateWindowDays))));
+        List<Candidate> representatives = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            boolean duplicate = clusters.stream()
+                    .anyMatch(fingerprint -> SimHash.distance(fingerprint, candidate.fingerprint()) <= duplicateMaxDistance);
+            if (duplicate) {
+                log.debug("Dropping near-duplicate article: {}", candidate.article().getTitle());
+                continue;
+            }
+            clusters.add(candidate.fingerprint());
+            representatives.add(candidate);
+        }
+        return representatives;
+    }
+
+    private static int lengthOf(String text) {
+        return text != null ? text.length() : 0;
+    }
+
+    private record Candidate(String key, NewsArticle article, long fingerprint) {}
+
+    private static NewsArticleRecord toRecord(Candidate candidate, Instant fetchedAt) {
+        NewsArticle article = candidate.article();
+        return NewsArticleRecord.builder()
+                .articleKey(candidate.key())
+                .fingerprint(candidate.fingerprint())
+                .url(article.getUrl())
+                .title(article.getTitle())
+                .summary(article.getSummary())
+                .content(article.getContent())
+                .source(article.getSource())
+                .language(article.getLanguage())
+                .publishedDate(article.getPublishedDate())
+                .fetchedAt(fetchedAt)
+                .build();
+    }
+}
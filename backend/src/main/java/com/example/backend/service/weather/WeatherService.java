@@ -1,11 +1,36 @@
 package com.example.backend.service.weather;
 
+import com.example.backend.config.CacheConfig;
 import com.example.backend.config.WeatherConfig;
+import com.example.backend.dto.weather.request.WeatherBatchRequest;
 import com.example.backend.dto.weather.request.WeatherRequest;
+import com.example.backend.dto.weather.provider.OpenMeteoPayload;
+import com.example.backend.dto.weather.provider.OpenWeatherForecastPayload;
+import com.example.backend.dto.weather.provider.OpenWeatherPayload;
+import com.example.backend.dto.weather.provider.WeatherApiPayload;
 import com.example.backend.dto.weather.response.*;
+import com.example.backend.exception.UnknownLocationException;
+import com.example.backend.feature.weather.FarmingAdviceEngine;
+import com.example.backend.feature.weather.FarmingAdviceEngine.AdviceInput;
+import com.example.backend.feature.weather.FarmingAdviceEngine.LocationAdvice;
+import com.example.backend.feature.weather.Gazetteer;
+import com.example.backend.feature.weather.GazetteerEntry;
+import com.example.backend.feature.weather.LocationKeys;
+import com.example.backend.feature.weather.ProviderQuotaManager;
+import com.example.backend.feature.weather.SingleFlight;
+import com.example.backend.feature.weather.WeatherConditionTranslator;
+import com.example.backend.feature.weather.WeatherHistoryStore;
+import com.example.backend.feature.weather.WeatherProvider;
+import com.example.backend.feature.weather.WeatherProviderChain;
+import com.example.backend.feature.weather.WeatherProviderChain.ProviderCall;
+import com.example.backend.feature.weather.WeatherSnapshot;
+import com.example.backend.feature.weather.WeatherSnapshotStore;
+import com.example.backend.feature.weather.WeatherLocationResolver;
+import com.example.backend.feature.weather.WeatherLocationResolver.ResolvedLocation;
 import com.example.backend.service.chatbot.FarmerDataService;
 import com.example.backend.service.chatbot.GeminiChatService;
-import com.example.backend.service.chatbot.TranslationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -15,10 +40,18 @@ import org.springframework.web.client.RestTemplate;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,28 +61,41 @@ public class WeatherService {
 
     private final WeatherConfig config;
     private final RestTemplate weatherRestTemplate;
-
-     private final TranslationService translationService;
+    private final WeatherProviderChain providerChain;
+    private final SingleFlight singleFlight;
+    private final ProviderQuotaManager quotaManager;
+    private final WeatherHistoryStore historyStore;
+    private final WeatherSnapshotStore snapshotStore;
+    private final Gazetteer gazetteer;
+    private final WeatherLocationResolver locationResolver;
+    private final FarmingAdviceEngine adviceEngine;
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+    private ExecutorService legExecutor;
+
+     private final WeatherConditionTranslator conditionTranslator;
      private final FarmerDataService farmerDataService;
      private final GeminiChatService geminiChatService;
 
-    @Cacheable(value = "weather", key = "#location + '_current'")
-    public WeatherResponse getCurrentWeather(WeatherRequest request) {
-        log.info("Fetching current weather for: {}", request.getLocation());
+    @Cacheable(value = CacheConfig.WEATHER_CACHE, keyGenerator = "weatherCacheKeyGenerator",
+            unless = "#result.stale || (#result.metadata != null && #result.metadata.containsKey('error'))")
+    public WeatherResponse getCurrentWeather(WeatherRequest request, ResolvedLocation location) {
+        log.info("Fetching current weather for: {} ({})", location.displayName(), location.weatherKey());
 
         try {
-            CurrentWeather currentWeather = fetchCurrentWeatherData(request.getLocation());
+            Served<CurrentWeather> served = fetchCurrentWeatherData(location.weatherKey());
+            CurrentWeather currentWeather = served.value();
 
             WeatherResponse.WeatherResponseBuilder responseBuilder = WeatherResponse.builder()
                     .currentWeather(currentWeather)
-                    .location(request.getLocation())
+                    .location(location.displayName())
                     .language(request.getLanguage())
-                    .lastUpdated(LocalDateTime.now())
                     .dataSource("Multiple Free APIs");
+            tagFreshness(responseBuilder, served.fetchedAt(), served.stale());
 
             // Add farming advice if requested
             if (request.isIncludeFarmingAdvice() && request.getUserId() != null) {
-                FarmingWeatherAdvice farmingAdvice = generateFarmingAdvice(currentWeather, request);
+                FarmingWeatherAdvice farmingAdvice = generateFarmingAdvice(
+                        adviceFor(location.weatherKey(), currentWeather, null), request);
                 responseBuilder.farmingAdvice(farmingAdvice);
             }
 
@@ -61,25 +107,28 @@ public class WeatherService {
         }
     }
 
-    @Cacheable(value = "weather", key = "#location + '_forecast'")
-    public WeatherResponse getWeatherForecast(WeatherRequest request) {
-        log.info("Fetching weather forecast for: {}", request.getLocation());
+    @Cacheable(value = CacheConfig.WEATHER_CACHE, keyGenerator = "weatherCacheKeyGenerator",
+            unless = "#result.stale || (#result.metadata != null && #result.metadata.containsKey('error'))")
+    public WeatherResponse getWeatherForecast(WeatherRequest request, ResolvedLocation location) {
+        log.info("Fetching weather forecast for: {} ({})", location.displayName(), location.weatherKey());
 
         try {
-            List<WeatherForecast> forecast = fetchWeatherForecastData(request.getLocation());
+            Served<List<WeatherForecast>> served = fetchWeatherForecastData(location.weatherKey());
+            List<WeatherForecast> forecast = served.value();
             List<WeatherAlert> alerts = generateWeatherAlerts(forecast);
 
             WeatherResponse.WeatherResponseBuilder responseBuilder = WeatherResponse.builder()
-                    .forecast(forecast)
+                    .forecast(localizedForecast(forecast, request.getLanguage()))
                     .alerts(alerts)
-                    .location(request.getLocation())
+                    .location(location.displayName())
                     .language(request.getLanguage())
-                    .lastUpdated(LocalDateTime.now())
                     .dataSource("Multiple Free APIs");
+            tagFreshness(responseBuilder, served.fetchedAt(), served.stale());
 
             // Add farming advice based on forecast
             if (request.isIncludeFarmingAdvice() && request.getUserId() != null) {
-                FarmingWeatherAdvice farmingAdvice = generateForecastBasedFarmingAdvice(forecast, alerts, request);
+                FarmingWeatherAdvice farmingAdvice = generateForecastBasedFarmingAdvice(
+                        adviceFor(location.weatherKey(), null, forecast), request);
                 responseBuilder.farmingAdvice(farmingAdvice);
             }
 
@@ -91,27 +140,54 @@ public class WeatherService {
         }
     }
 
-    public WeatherResponse getComprehensiveWeather(WeatherRequest request) {
-        log.info("Fetching comprehensive weather for: {}", request.getLocation());
+    @Cacheable(value = CacheConfig.WEATHER_CACHE, keyGenerator = "weatherCacheKeyGenerator",
+            unless = "#result.partial || #result.stale || (#result.metadata != null && #result.metadata.containsKey('error'))")
+    public WeatherResponse getComprehensiveWeather(WeatherRequest request, ResolvedLocation location) {
+        log.info("Fetching comprehensive weather for: {} ({})", location.displayName(), location.weatherKey());
 
         try {
-            CurrentWeather currentWeather = fetchCurrentWeatherData(request.getLocation());
-            List<WeatherForecast> forecast = fetchWeatherForecastData(request.getLocation());
-            List<WeatherAlert> alerts = generateWeatherAlerts(forecast);
+            // Both legs run at once against one shared deadline, so latency is the slower leg rather than the sum
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getComprehensiveBudgetMs());
+            Future<Served<CurrentWeather>> currentLeg = legExecutor.submit(() -> fetchCurrentWeatherData(location.weatherKey()));
+            Future<Served<List<WeatherForecast>>> forecastLeg = legExecutor.submit(() -> fetchWeatherForecastData(location.weatherKey()));
+
+            Served<CurrentWeather> servedCurrent = awaitLeg(currentLeg, deadline, "current weather", location);
+            Served<List<WeatherForecast>> servedForecast = awaitLeg(forecastLeg, deadline, "forecast", location);
+            if (servedCurrent == null && servedForecast == null) {
+                throw new RuntimeException("Neither weather leg returned data");
+            }
+            CurrentWeather currentWeather = servedCurrent != null ? servedCurrent.value() : null;
+            List<WeatherForecast> forecast = servedForecast != null ? servedForecast.value() : null;
+
+            boolean partial = currentWeather == null || forecast == null;
+            List<WeatherAlert> alerts = forecast != null ? generateWeatherAlerts(forecast) : new ArrayList<>();
 
             WeatherResponse.WeatherResponseBuilder responseBuilder = WeatherResponse.builder()
                     .currentWeather(currentWeather)
-                    .forecast(forecast)
+                    .forecast(localizedForecast(forecast, request.getLanguage()))
                     .alerts(alerts)
-                    .location(request.getLocation())
+                    .location(location.displayName())
                     .language(request.getLanguage())
-                    .lastUpdated(LocalDateTime.now())
-                    .dataSource("Multiple Free Sources");
-
-            // Always include farming advice for comprehensive requests
+                    .dataSource("Multiple Free Sources")
+                    .partial(partial);
+            // The older of the two legs sets the response's age
+            Served<?> oldest = servedCurrent == null ? servedForecast
+                    : servedForecast == null || servedCurrent.fetchedAt().isBefore(servedForecast.fetchedAt()) ? servedCurrent
+                    : servedForecast;
+            tagFreshness(responseBuilder, oldest.fetchedAt(),
+                    (servedCurrent != null && servedCurrent.stale()) || (servedForecast != null && servedForecast.stale()));
+
+            // Always include farming advice for comprehensive requests, from whichever legs arrived
             if (request.getUserId() != null) {
-                FarmingWeatherAdvice farmingAdvice = generateComprehensiveFarmingAdvice(
-                        currentWeather, forecast, alerts, request);
+                LocationAdvice advice = adviceFor(location.weatherKey(), currentWeather, forecast);
+                FarmingWeatherAdvice farmingAdvice;
+                if (currentWeather == null) {
+                    farmingAdvice = generateForecastBasedFarmingAdvice(advice, request);
+                } else if (forecast == null) {
+                    farmingAdvice = generateFarmingAdvice(advice, request);
+                } else {
+                    farmingAdvice = generateComprehensiveFarmingAdvice(advice, request);
+                }
                 responseBuilder.farmingAdvice(farmingAdvice);
             }
 
@@ -123,25 +199,382 @@ public class WeatherService {
         }
     }
 
-    // Data fetching methods
-    private CurrentWeather fetchCurrentWeatherData(String location) {
-        // Try multiple free APIs in order of reliability
+    private void tagFreshness(WeatherResponse.WeatherResponseBuilder builder, Instant fetchedAt, boolean stale) {
+        builder.lastUpdated(LocalDateTime.ofInstant(fetchedAt, ZoneId.systemDefault()))
+                .staleAfter(LocalDateTime.ofInstant(fetchedAt.plus(snapshotMaxAge()), ZoneId.systemDefault()))
+                .stale(stale);
+    }
+
+    // Day tips are stored in Bangla; English responses get them re-rendered, as the advice is
+    private List<WeatherForecast> localizedForecast(List<WeatherForecast> forecast, String language) {
+        if (forecast == null || !"en".equalsIgnoreCase(language)) {
+            return forecast;
+        }
+        return forecast.stream()
+                .map(day -> day.toBuilder()
+                        .farmingTips(adviceEngine.dailyTip(day.getCondition(),
+                                day.getMaxTemp() != null ? day.getMaxTemp() : Double.NaN,
+                                day.getRainfall() != null ? day.getRainfall() : 0.0, language))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // A leg that fails or misses the deadline is reported as missing (null); the other leg is still served
+    private <T> T awaitLeg(Future<T> leg, long deadline, String name, ResolvedLocation location)
+            throws InterruptedException {
         try {
-            return fetchFromOpenWeatherMap(location);
+            return leg.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            log.warn("Comprehensive weather for {} returned without {}: {}",
+                    location.weatherKey(), name, e.getCause().getMessage());
+            return null;
+        } catch (TimeoutException e) {
+            // Detach without interrupting: the leg may be the single-flight leader other callers are waiting on
+            leg.cancel(false);
+            log.warn("Comprehensive weather for {} returned without {}: deadline of {} ms passed",
+                    location.weatherKey(), name, config.getComprehensiveBudgetMs());
+            return null;
+        }
+    }
+
+    @PostConstruct
+    void startLegExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        legExecutor = new ThreadPoolExecutor(config.getLegThreads(), config.getLegThreads(), 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(config.getLegQueueSize()), runnable -> {
+                    Thread thread = new Thread(runnable, "weather-leg-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        ((ThreadPoolExecutor) legExecutor).allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        legExecutor.shutdownNow();
+    }
+
+    // Snapshots are kept per district; upazilas without their own coordinates share them
+    public List<String> getKnownLocations() {
+        return gazetteer.districts().stream()
+                .map(GazetteerEntry::getName)
+                .collect(Collectors.toList());
+    }
+
+    // Pulls current conditions and forecast for one location into the snapshot store.
+    // A failed refresh keeps the previous snapshot instead of storing fallback data.
+    public boolean refreshSnapshot(String location) {
+        try {
+            CurrentWeather currentWeather = fetchCurrentFromProviders(location);
+            List<WeatherForecast> forecast = fetchForecastFromProviders(location);
+
+            snapshotStore.put(WeatherSnapshot.builder()
+                    .location(location)
+                    .currentWeather(currentWeather)
+                    .forecast(forecast)
+                    .alerts(generateWeatherAlerts(forecast))
+                    .fetchedAt(Instant.now())
+                    .build());
+            return true;
         } catch (Exception e) {
-            log.warn("OpenWeatherMap failed: {}", e.getMessage());
+            log.warn("Could not refresh weather snapshot for {}: {}", location, e.getMessage());
+            return false;
+        }
+    }
+
+    // Refreshes many locations with one OpenMeteo multi-point query; locations that
+    // are unknown or missing from the batch fall back to the per-location chain
+    public int refreshSnapshots(List<String> locations) {
+        Set<String> refreshed = fetchSnapshotsFromOpenMeteo(locations).stream()
+                .map(WeatherSnapshot::getLocation)
+                .collect(Collectors.toSet());
+
+        int count = refreshed.size();
+        for (String location : locations) {
+            if (!refreshed.contains(location) && refreshSnapshot(location)) {
+                count++;
+            }
+        }
+
+        precomputeAdvice(locations);
+        return count;
+    }
+
+    // Request-time refresh: the multi-point query, then every location it missed in parallel, all
+    // against one deadline. Refreshes still running at the deadline are left to finish in the
+    // background; the caller serves whatever snapshots exist by then.
+    private void refreshWithin(List<String> locations, long deadline) {
+        Set<String> refreshed = new HashSet<>();
+        Future<List<WeatherSnapshot>> batch = legExecutor.submit(() -> fetchSnapshotsFromOpenMeteo(locations));
+        try {
+            batch.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)
+                    .forEach(snapshot -> refreshed.add(snapshot.getLocation()));
+        } catch (TimeoutException e) {
+            batch.cancel(false);
+        } catch (ExecutionException e) {
+            log.warn("OpenMeteo batch refresh failed: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            batch.cancel(true);
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        List<Future<Boolean>> singles = new ArrayList<>();
+        if (deadline - System.nanoTime() > 0) {
             try {
-                return fetchFromWeatherAPI(location);
-            } catch (Exception e2) {
-                log.warn("WeatherAPI failed: {}", e2.getMessage());
-                try {
-                    return fetchFromOpenMeteo(location);
-                } catch (Exception e3) {
-                    log.warn("OpenMeteo failed: {}", e3.getMessage());
-                    return getDefaultWeatherForBangladesh();
+                for (String location : locations) {
+                    if (!refreshed.contains(location)) {
+                        singles.add(legExecutor.submit(() -> refreshSnapshot(location)));
+                    }
                 }
+            } catch (RejectedExecutionException e) {
+                log.warn("Weather leg pool is full; refreshing {} of the missing locations", singles.size());
             }
         }
+        int count = refreshed.size();
+        for (Future<Boolean> single : singles) {
+            try {
+                if (single.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    count++;
+                }
+            } catch (TimeoutException e) {
+                // Not interrupted: a refresh may lead a single-flight lookup that other requests share
+                single.cancel(false);
+            } catch (ExecutionException e) {
+                // refreshSnapshot logs its own failures
+            } catch (InterruptedException e) {
+                singles.forEach(pending -> pending.cancel(true));
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (count < locations.size() && deadline - System.nanoTime() <= 0) {
+            log.warn("Batch refresh hit its {} ms deadline with {} of {} locations refreshed",
+                    config.getBatchBudgetMs(), count, locations.size());
+        }
+
+        precomputeAdvice(locations);
+    }
+
+    // One rule-engine pass over every refreshed location, so advice is not re-derived per request
+    private void precomputeAdvice(List<String> locations) {
+        List<WeatherSnapshot> snapshots = locations.stream()
+                .map(snapshotStore::get)
+                .flatMap(Optional::stream)
+                .filter(snapshot -> snapshot.getAdvice() == null)
+                .collect(Collectors.toList());
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        List<LocationAdvice> advice = adviceEngine.evaluate(snapshots.stream()
+                .map(snapshot -> new AdviceInput(snapshot.getCurrentWeather(), snapshot.getForecast(),
+                        historyStore.trend(snapshot.getLocation(), TREND_DAYS)))
+                .collect(Collectors.toList()));
+        // A refresh that landed meanwhile keeps its newer data; it gets advice on its own pass
+        for (int i = 0; i < snapshots.size(); i++) {
+            snapshotStore.replace(snapshots.get(i), snapshots.get(i).toBuilder().advice(advice.get(i)).build());
+        }
+    }
+
+    // Reuses the refresh-time advice when the response is built from that snapshot's data
+    private LocationAdvice adviceFor(String location, CurrentWeather current, List<WeatherForecast> forecast) {
+        Optional<WeatherSnapshot> snapshot = snapshotStore.get(location)
+                .filter(candidate -> candidate.getAdvice() != null)
+                .filter(candidate -> current == null || candidate.getCurrentWeather() == current)
+                .filter(candidate -> forecast == null || candidate.getForecast() == forecast);
+        if (snapshot.isPresent()) {
+            return snapshot.get().getAdvice();
+        }
+        return adviceEngine.evaluate(new AdviceInput(current, forecast, historyStore.trend(location, TREND_DAYS)));
+    }
+
+    public WeatherBatchResponse getBatchWeather(WeatherBatchRequest request) {
+        List<String> locations = request.getLocations() == null ? List.of() : request.getLocations().stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(location -> !location.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (locations.size() > config.getBatchMaxLocations()) {
+            throw new IllegalArgumentException("At most " + config.getBatchMaxLocations() + " locations per batch");
+        }
+
+        // Only gazetteer places get snapshots; anything else is reported as failed rather than fetched and stored
+        Map<String, WeatherSnapshot> snapshots = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String weatherKey : locations.stream().map(locationResolver::weatherKey).distinct().toList()) {
+            if (gazetteer.lookup(weatherKey) == null) {
+                continue;
+            }
+            usableSnapshot(weatherKey).ifPresentOrElse(
+                    snapshot -> snapshots.put(weatherKey, snapshot),
+                    () -> missing.add(weatherKey));
+        }
+
+        if (!missing.isEmpty()) {
+            refreshWithin(missing, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getBatchBudgetMs()));
+            for (String weatherKey : missing) {
+                snapshotStore.get(weatherKey).ifPresent(snapshot -> snapshots.put(weatherKey, snapshot));
+            }
+        }
+
+        List<WeatherResponse> results = new ArrayList<>();
+        List<String> failedLocations = new ArrayList<>();
+        for (String location : locations) {
+            WeatherSnapshot snapshot = snapshots.get(locationResolver.weatherKey(location));
+            if (snapshot == null) {
+                failedLocations.add(location);
+                continue;
+            }
+
+            WeatherResponse.WeatherResponseBuilder responseBuilder = WeatherResponse.builder()
+                    .currentWeather(snapshot.getCurrentWeather())
+                    .forecast(localizedForecast(snapshot.getForecast(), request.getLanguage()))
+                    .alerts(snapshot.getAlerts())
+                    .location(location)
+                    .language(request.getLanguage())
+                    .dataSource("Multiple Free Sources");
+            // A failed refresh leaves the previous snapshot in place; it is still served, marked stale
+            tagFreshness(responseBuilder, snapshot.getFetchedAt(), !snapshot.isYoungerThan(snapshotMaxAge()));
+            results.add(responseBuilder.build());
+        }
+
+        return WeatherBatchResponse.builder()
+                .results(results)
+                .failedLocations(failedLocations)
+                .totalCount(results.size())
+                .language(request.getLanguage())
+                .lastUpdated(LocalDateTime.now())
+                .build();
+    }
+
+    // Served entirely from the local history store
+    public WeatherHistoryResponse getWeatherHistory(String location, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("History range starts after it ends");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > config.getHistoryRetentionDays()) {
+            throw new IllegalArgumentException("History range is longer than the " + config.getHistoryRetentionDays() + "-day retention");
+        }
+
+        String weatherKey = locationResolver.weatherKey(location);
+        ZoneId zone = WeatherHistoryStore.ZONE;
+        return WeatherHistoryResponse.builder()
+                .location(location)
+                .from(from)
+                .to(to)
+                .observations(historyStore.observations(weatherKey,
+                        from.atStartOfDay(zone).toInstant(), to.plusDays(1).atStartOfDay(zone).toInstant()))
+                .daily(historyStore.daily(weatherKey, from, to))
+                .trend(historyStore.trend(weatherKey, TREND_DAYS))
+                .build();
+    }
+
+    private List<WeatherSnapshot> fetchSnapshotsFromOpenMeteo(List<String> locations) {
+        List<String> known = locations.stream()
+                .filter(location -> gazetteer.lookup(location) != null)
+                .collect(Collectors.toList());
+        if (known.isEmpty()) {
+            return List.of();
+        }
+
+        // One request per chunk of points, all paid for up front
+        int requests = (known.size() + OPEN_METEO_BATCH_SIZE - 1) / OPEN_METEO_BATCH_SIZE;
+        if (!quotaManager.tryAcquire(WeatherProvider.OPEN_METEO, requests)) {
+            log.warn("OpenMeteo quota cannot cover a {}-location batch refresh", known.size());
+            return List.of();
+        }
+
+        try {
+            List<OpenMeteoPayload> points = quotaManager.call(WeatherProvider.OPEN_METEO, () -> fetchOpenMeteoPoints(
+                    known.stream().map(this::coordinatesFor).collect(Collectors.toList()),
+                    OPEN_METEO_CURRENT_QUERY + "&" + openMeteoDailyQuery()));
+
+            List<WeatherSnapshot> snapshots = new ArrayList<>(known.size());
+            for (int i = 0; i < known.size(); i++) {
+                List<WeatherForecast> forecast = parseOpenMeteoForecast(points.get(i));
+                WeatherSnapshot snapshot = WeatherSnapshot.builder()
+                        .location(known.get(i))
+                        .currentWeather(parseOpenMeteoResponse(points.get(i)))
+                        .forecast(forecast)
+                        .alerts(generateWeatherAlerts(forecast))
+                        .fetchedAt(Instant.now())
+                        .build();
+                snapshotStore.put(snapshot);
+                historyStore.recordObservation(snapshot.getLocation(), snapshot.getFetchedAt(), snapshot.getCurrentWeather());
+                historyStore.recordForecast(snapshot.getLocation(), forecast);
+                snapshots.add(snapshot);
+            }
+            return snapshots;
+        } catch (Exception e) {
+            log.warn("OpenMeteo batch fetch for {} locations failed: {}", known.size(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    private Optional<WeatherSnapshot> usableSnapshot(String location) {
+        return snapshotStore.get(location).filter(snapshot -> snapshot.isYoungerThan(snapshotMaxAge()));
+    }
+
+    // Snapshots that missed two refresh cycles are served stale and revalidated in the background
+    private Duration snapshotMaxAge() {
+        return Duration.ofMillis(2L * config.getRefreshIntervalMs());
+    }
+
+    // Fresh snapshot, else the last good one (revalidated asynchronously), else a live fetch.
+    // Throws when nothing real is available; callers never see fabricated data.
+    private <T> Served<T> serve(String location, Function<WeatherSnapshot, T> fromSnapshot, Supplier<T> live) {
+        Optional<WeatherSnapshot> fresh = usableSnapshot(location);
+        if (fresh.isPresent()) {
+            return new Served<>(fromSnapshot.apply(fresh.get()), fresh.get().getFetchedAt(), false);
+        }
+
+        Optional<WeatherSnapshot> stale = snapshotStore.get(location);
+        if (stale.isPresent()) {
+            revalidate(location);
+            return new Served<>(fromSnapshot.apply(stale.get()), stale.get().getFetchedAt(), true);
+        }
+
+        return new Served<>(live.get(), Instant.now(), false);
+    }
+
+    private void revalidate(String location) {
+        String key = LocationKeys.normalize(location);
+        if (!revalidating.add(key)) {
+            return;
+        }
+        try {
+            legExecutor.execute(() -> {
+                try {
+                    if (refreshSnapshot(location)) {
+                        precomputeAdvice(List.of(location));
+                    }
+                } finally {
+                    revalidating.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            revalidating.remove(key);
+        }
+    }
+
+    // Data fetching methods
+    private Served<CurrentWeather> fetchCurrentWeatherData(String location) {
+        return serve(location, WeatherSnapshot::getCurrentWeather, () -> fetchCurrentFromProviders(location));
+    }
+
+    private CurrentWeather fetchCurrentFromProviders(String location) {
+        // Concurrent misses for the same place share one hedged call across the free APIs
+        return singleFlight.execute("current:" + LocationKeys.normalize(location), () -> {
+            CurrentWeather current = providerChain.fetch("Current weather for " + location, List.of(
+                    new ProviderCall<>(WeatherProvider.OPEN_WEATHER_MAP, () -> fetchFromOpenWeatherMap(location)),
+                    new ProviderCall<>(WeatherProvider.WEATHER_API, () -> fetchFromWeatherAPI(location)),
+                    new ProviderCall<>(WeatherProvider.OPEN_METEO, () -> fetchFromOpenMeteo(location))));
+            historyStore.recordObservation(location, Instant.now(), current);
+            return current;
+        });
     }
 
     private CurrentWeather fetchFromOpenWeatherMap(String location) {
@@ -149,12 +582,12 @@ public class WeatherService {
             throw new RuntimeException("OpenWeatherMap API key not configured");
         }
 
-        String url = String.format("%s/weather?q=%s,BD&appid=%s&units=metric&lang=en",
+        String url = String.format("%s/weather?%s&appid=%s&units=metric&lang=en",
                 config.getOpenWeatherBaseUrl(),
-                URLEncoder.encode(location, StandardCharsets.UTF_8),
+                openWeatherLocationQuery(location),
                 config.getOpenWeatherApiKey());
 
-        ResponseEntity<Map> response = weatherRestTemplate.getForEntity(url, Map.class);
+        ResponseEntity<OpenWeatherPayload> response = weatherRestTemplate.getForEntity(url, OpenWeatherPayload.class);
 
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             return parseOpenWeatherResponse(response.getBody());
@@ -168,12 +601,12 @@ public class WeatherService {
             throw new RuntimeException("WeatherAPI key not configured");
         }
 
-        String url = String.format("%s/current.json?key=%s&q=%s,Bangladesh&aqi=no",
+        String url = String.format("%s/current.json?key=%s&q=%s&aqi=no",
                 config.getWeatherApiBaseUrl(),
                 config.getWeatherApiKey(),
-                URLEncoder.encode(location, StandardCharsets.UTF_8));
+                weatherApiLocationQuery(location));
 
-        ResponseEntity<Map> response = weatherRestTemplate.getForEntity(url, Map.class);
+        ResponseEntity<WeatherApiPayload> response = weatherRestTemplate.getForEntity(url, WeatherApiPayload.class);
 
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             return parseWeatherAPIResponse(response.getBody());
@@ -184,325 +617,204 @@ public class WeatherService {
 
     private CurrentWeather fetchFromOpenMeteo(String location) {
         // OpenMeteo is completely free but requires coordinates
-        // First get coordinates for the location (using a simple lookup)
-        Map<String, double[]> bangladeshCities = getBangladeshCityCoordinates();
-        double[] coords = bangladeshCities.getOrDefault(location.toLowerCase(),
-                bangladeshCities.get("dhaka")); // Default to Dhaka
+        return parseOpenMeteoResponse(
+                fetchOpenMeteoPoints(List.of(coordinatesFor(location)), OPEN_METEO_CURRENT_QUERY).get(0));
+    }
 
-        String url = String.format("%s/forecast?latitude=%.4f&longitude=%.4f&current_weather=true&hourly=temperature_2m,relative_humidity_2m,wind_speed_10m,weather_code&timezone=Asia/Dhaka",
-                config.getOpenMeteoBaseUrl(),
-                coords[0], coords[1]);
+    // OpenMeteo answers a multi-point query with an array in coordinate order, so
+    // a whole division costs one round-trip per chunk instead of one per location
+    private List<OpenMeteoPayload> fetchOpenMeteoPoints(List<double[]> points, String query) {
+        List<OpenMeteoPayload> results = new ArrayList<>(points.size());
 
-        ResponseEntity<Map> response = weatherRestTemplate.getForEntity(url, Map.class);
+        for (int from = 0; from < points.size(); from += OPEN_METEO_BATCH_SIZE) {
+            List<double[]> chunk = points.subList(from, Math.min(points.size(), from + OPEN_METEO_BATCH_SIZE));
 
-        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-            return parseOpenMeteoResponse(response.getBody());
-        }
+            String latitudes = chunk.stream()
+                    .map(point -> String.format(Locale.ROOT, "%.4f", point[0]))
+                    .collect(Collectors.joining(","));
+            String longitudes = chunk.stream()
+                    .map(point -> String.format(Locale.ROOT, "%.4f", point[1]))
+                    .collect(Collectors.joining(","));
 
-        throw new RuntimeException("Failed to fetch from OpenMeteo");
-    }
+            String url = String.format("%s/forecast?latitude=%s&longitude=%s&%s&timezone=Asia/Dhaka",
+                    config.getOpenMeteoBaseUrl(), latitudes, longitudes, query);
 
-    private List<WeatherForecast> fetchWeatherForecastData(String location) {
-        try {
-            return fetchForecastFromWeatherAPI(location);
-        } catch (Exception e) {
-            log.warn("WeatherAPI forecast failed: {}", e.getMessage());
-            try {
-                return fetchForecastFromOpenWeatherMap(location);
-            } catch (Exception e2) {
-                log.warn("OpenWeatherMap forecast failed: {}", e2.getMessage());
-                try {
-                    return fetchForecastFromOpenMeteo(location);
-                } catch (Exception e3) {
-                    log.warn("OpenMeteo forecast failed: {}", e3.getMessage());
-                    return generateDefaultForecast();
-                }
+            // A single point comes back as a bare object rather than a one-element array
+            if (chunk.size() == 1) {
+                results.add(requireBody(weatherRestTemplate.getForEntity(url, OpenMeteoPayload.class)));
+            } else {
+                results.addAll(Arrays.asList(requireBody(weatherRestTemplate.getForEntity(url, OpenMeteoPayload[].class))));
             }
         }
+
+        if (results.size() != points.size()) {
+            throw new RuntimeException("OpenMeteo returned " + results.size() + " results for " + points.size() + " points");
+        }
+
+        return results;
     }
 
-    private List<WeatherForecast> fetchForecastFromOpenMeteo(String location) {
-        Map<String, double[]> bangladeshCities = getBangladeshCityCoordinates();
-        double[] coords = bangladeshCities.getOrDefault(location.toLowerCase(),
-                bangladeshCities.get("dhaka"));
+    private <T> T requireBody(ResponseEntity<T> response) {
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new RuntimeException("Failed to fetch from OpenMeteo");
+        }
+        return response.getBody();
+    }
 
-        String url = String.format("%s/forecast?latitude=%.4f&longitude=%.4f&daily=temperature_2m_max,temperature_2m_min,weather_code,precipitation_sum,wind_speed_10m_max&timezone=Asia/Dhaka&forecast_days=%d",
-                config.getOpenMeteoBaseUrl(),
-                coords[0], coords[1],
-                config.getForecastDays());
+    // Unknown names fail this provider instead of silently reporting Dhaka's weather
+    private double[] coordinatesFor(String location) {
+        GazetteerEntry place = gazetteer.lookup(location);
+        if (place == null) {
+            throw new UnknownLocationException(location);
+        }
+        GazetteerEntry cell = place.weatherCell();
+        return new double[]{cell.getLatitude(), cell.getLongitude()};
+    }
 
-        ResponseEntity<Map> response = weatherRestTemplate.getForEntity(url, Map.class);
+    // Known places are queried by coordinates; anything else falls back to the provider's own name search
+    private String openWeatherLocationQuery(String location) {
+        GazetteerEntry place = gazetteer.lookup(location);
+        if (place == null) {
+            return "q=" + URLEncoder.encode(location, StandardCharsets.UTF_8) + ",BD";
+        }
+        GazetteerEntry cell = place.weatherCell();
+        return String.format(Locale.ROOT, "lat=%.4f&lon=%.4f", cell.getLatitude(), cell.getLongitude());
+    }
 
-        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-            return parseOpenMeteoForecast(response.getBody());
+    private String weatherApiLocationQuery(String location) {
+        GazetteerEntry place = gazetteer.lookup(location);
+        if (place == null) {
+            return URLEncoder.encode(location, StandardCharsets.UTF_8) + ",Bangladesh";
         }
+        GazetteerEntry cell = place.weatherCell();
+        return String.format(Locale.ROOT, "%.4f,%.4f", cell.getLatitude(), cell.getLongitude());
+    }
+
+    private Served<List<WeatherForecast>> fetchWeatherForecastData(String location) {
+        return serve(location, WeatherSnapshot::getForecast, () -> fetchForecastFromProviders(location));
+    }
+
+    private List<WeatherForecast> fetchForecastFromProviders(String location) {
+        return singleFlight.execute("forecast:" + LocationKeys.normalize(location), () -> {
+            List<WeatherForecast> forecast = providerChain.fetch("Weather forecast for " + location, List.of(
+                    new ProviderCall<>(WeatherProvider.WEATHER_API, () -> fetchForecastFromWeatherAPI(location)),
+                    new ProviderCall<>(WeatherProvider.OPEN_WEATHER_MAP, () -> fetchForecastFromOpenWeatherMap(location)),
+                    new ProviderCall<>(WeatherProvider.OPEN_METEO, () -> fetchForecastFromOpenMeteo(location))));
+            historyStore.recordForecast(location, forecast);
+            return forecast;
+        });
+    }
+
+    private List<WeatherForecast> fetchForecastFromOpenMeteo(String location) {
+        return parseOpenMeteoForecast(
+                fetchOpenMeteoPoints(List.of(coordinatesFor(location)), openMeteoDailyQuery()).get(0));
+    }
 
-        throw new RuntimeException("Failed to fetch forecast from OpenMeteo");
+    private String openMeteoDailyQuery() {
+        return String.format(OPEN_METEO_DAILY_QUERY, config.getForecastDays());
     }
 
     // Parsing methods
-    private CurrentWeather parseOpenWeatherResponse(Map<String, Object> data) {
-        Map<String, Object> main = (Map<String, Object>) data.get("main");
-        Map<String, Object> wind = (Map<String, Object>) data.get("wind");
-        Map<String, Object> sys = (Map<String, Object>) data.get("sys");
-        List<Map<String, Object>> weather = (List<Map<String, Object>>) data.get("weather");
+    private CurrentWeather parseOpenWeatherResponse(OpenWeatherPayload data) {
+        OpenWeatherPayload.Main main = data.getMain();
+        OpenWeatherPayload.Sys sys = data.getSys();
 
-        String condition = weather.get(0).get("main").toString();
+        OpenWeatherPayload.Condition weather = data.getWeather().get(0);
+        String condition = weather.getMain();
 
         return CurrentWeather.builder()
-                .temperature(((Number) main.get("temp")).doubleValue())
-                .feelsLike(((Number) main.get("feels_like")).doubleValue())
-                .humidity(((Number) main.get("humidity")).doubleValue())
-                .pressure(((Number) main.get("pressure")).doubleValue())
-                .windSpeed(wind != null ? ((Number) wind.get("speed")).doubleValue() * 3.6 : 0)
+                .temperature(main.getTemp())
+                .feelsLike(main.getFeelsLike())
+                .humidity(main.getHumidity())
+                .pressure(main.getPressure())
+                .windSpeed(data.getWind() != null ? data.getWind().getSpeed() * 3.6 : 0)
                 .condition(condition)
-                .conditionBangla(translateWeatherCondition(condition))
-                .sunrise(LocalDateTime.ofEpochSecond(((Number) sys.get("sunrise")).longValue(), 0, ZoneOffset.ofHours(6)))
-                .sunset(LocalDateTime.ofEpochSecond(((Number) sys.get("sunset")).longValue(), 0, ZoneOffset.ofHours(6)))
+                .conditionBangla(conditionTranslator.fromOpenWeatherId(weather.getId(), condition))
+                .sunrise(LocalDateTime.ofEpochSecond(sys.getSunrise(), 0, ZoneOffset.ofHours(6)))
+                .sunset(LocalDateTime.ofEpochSecond(sys.getSunset(), 0, ZoneOffset.ofHours(6)))
                 .build();
     }
 
-    private CurrentWeather parseWeatherAPIResponse(Map<String, Object> data) {
-        Map<String, Object> current = (Map<String, Object>) data.get("current");
-        Map<String, Object> condition = (Map<String, Object>) current.get("condition");
+    private CurrentWeather parseWeatherAPIResponse(WeatherApiPayload data) {
+        WeatherApiPayload.Current current = data.getCurrent();
+        WeatherApiPayload.Condition condition = current.getCondition();
 
-        String conditionText = condition.get("text").toString();
+        String conditionText = condition.getText();
 
         return CurrentWeather.builder()
-                .temperature(((Number) current.get("temp_c")).doubleValue())
-                .feelsLike(((Number) current.get("feelslike_c")).doubleValue())
-                .humidity(((Number) current.get("humidity")).doubleValue())
-                .pressure(((Number) current.get("pressure_mb")).doubleValue())
-                .windSpeed(((Number) current.get("wind_kph")).doubleValue())
-                .windDirection((String) current.get("wind_dir"))
+                .temperature(current.getTempC())
+                .feelsLike(current.getFeelslikeC())
+                .humidity(current.getHumidity())
+                .pressure(current.getPressureMb())
+                .windSpeed(current.getWindKph())
+                .windDirection(current.getWindDir())
                 .condition(conditionText)
-                .conditionBangla(translateWeatherCondition(conditionText))
-                .iconUrl((String) condition.get("icon"))
-                .uvIndex(((Number) current.get("uv")).doubleValue())
-                .visibility(((Number) current.get("vis_km")).doubleValue())
+                .conditionBangla(conditionTranslator.fromWeatherApiCode(condition.getCode(), conditionText))
+                .iconUrl(condition.getIcon())
+                .uvIndex(current.getUv())
+                .visibility(current.getVisKm())
                 .build();
     }
 
-    private CurrentWeather parseOpenMeteoResponse(Map<String, Object> data) {
-        Map<String, Object> current = (Map<String, Object>) data.get("current_weather");
-        Map<String, Object> hourly = (Map<String, Object>) data.get("hourly");
-
-        double temperature = ((Number) current.get("temperature")).doubleValue();
-        double windSpeed = ((Number) current.get("windspeed")).doubleValue();
-        int weatherCode = ((Number) current.get("weathercode")).intValue();
+    private CurrentWeather parseOpenMeteoResponse(OpenMeteoPayload data) {
+        OpenMeteoPayload.CurrentWeather current = data.getCurrentWeather();
 
         // Get humidity from hourly data (first hour)
-        List<Number> humidityList = (List<Number>) hourly.get("relative_humidity_2m");
-        double humidity = humidityList != null && !humidityList.isEmpty() ?
-                humidityList.get(0).doubleValue() : 70.0;
+        double[] humidityList = data.getHourly() != null ? data.getHourly().getRelativeHumidity2m() : null;
+        double humidity = humidityList != null && humidityList.length > 0 ? humidityList[0] : 70.0;
 
-        String condition = interpretWeatherCode(weatherCode);
+        String condition = conditionTranslator.wmoDescription(current.getWeathercode());
 
         return CurrentWeather.builder()
-                .temperature(temperature)
+                .temperature(current.getTemperature())
                 .humidity(humidity)
-                .windSpeed(windSpeed)
+                .windSpeed(current.getWindspeed())
                 .condition(condition)
-                .conditionBangla(translateWeatherCondition(condition))
+                .conditionBangla(conditionTranslator.fromWmoCode(current.getWeathercode()))
                 .build();
     }
 
-    private List<WeatherForecast> parseOpenMeteoForecast(Map<String, Object> data) {
-        Map<String, Object> daily = (Map<String, Object>) data.get("daily");
+    private List<WeatherForecast> parseOpenMeteoForecast(OpenMeteoPayload data) {
+        OpenMeteoPayload.Daily daily = data.getDaily();
 
-        List<String> dates = (List<String>) daily.get("time");
-        List<Number> maxTemps = (List<Number>) daily.get("temperature_2m_max");
-        List<Number> minTemps = (List<Number>) daily.get("temperature_2m_min");
-        List<Number> weatherCodes = (List<Number>) daily.get("weather_code");
-        List<Number> precipitation = (List<Number>) daily.get("precipitation_sum");
-        List<Number> windSpeeds = (List<Number>) daily.get("wind_speed_10m_max");
+        String[] dates = daily.getTime();
+        double[] maxTemps = daily.getTemperature2mMax();
+        double[] minTemps = daily.getTemperature2mMin();
+        int[] weatherCodes = daily.getWeatherCode();
+        double[] precipitation = daily.getPrecipitationSum();
+        double[] windSpeeds = daily.getWindSpeed10mMax();
 
         List<WeatherForecast> forecasts = new ArrayList<>();
 
-        for (int i = 0; i < dates.size() && i < config.getForecastDays(); i++) {
-            String condition = interpretWeatherCode(weatherCodes.get(i).intValue());
+        for (int i = 0; i < dates.length && i < config.getForecastDays(); i++) {
+            String condition = conditionTranslator.wmoDescription(weatherCodes[i]);
 
             forecasts.add(WeatherForecast.builder()
-                    .date(LocalDate.parse(dates.get(i)))
-                    .maxTemp(maxTemps.get(i).doubleValue())
-                    .minTemp(minTemps.get(i).doubleValue())
+                    .date(LocalDate.parse(dates[i]))
+                    .maxTemp(maxTemps[i])
+                    .minTemp(minTemps[i])
                     .condition(condition)
-                    .conditionBangla(translateWeatherCondition(condition))
-                    .rainfall(precipitation.get(i).doubleValue())
-                    .windSpeed(windSpeeds.get(i).doubleValue())
-                    .farmingTips(generateDailyFarmingTips(condition,
-                            maxTemps.get(i).doubleValue(),
-                            precipitation.get(i).doubleValue()))
+                    .conditionBangla(conditionTranslator.fromWmoCode(weatherCodes[i]))
+                    .rainfall(precipitation[i])
+                    .windSpeed(windSpeeds[i])
+                    .farmingTips(adviceEngine.dailyTip(condition, maxTemps[i], precipitation[i]))
                     .build());
         }
 
         return forecasts;
     }
 
-    // Helper methods
-    private Map<String, double[]> getBangladeshCityCoordinates() {
-        Map<String, double[]> cities = new HashMap<>();
-
-
-        cities.put("dhaka", new double[]{23.8103, 90.4125});
-        cities.put("chittagong", new double[]{22.3569, 91.7832});
-        cities.put("sylhet", new double[]{24.8949, 91.8687});
-        cities.put("rajshahi", new double[]{24.3745, 88.6042});
-        cities.put("khulna", new double[]{22.8456, 89.5403});
-        cities.put("barishal", new double[]{22.7010, 90.3535});
-        cities.put("rangpur", new double[]{25.7439, 89.2752});
-        cities.put("mymensingh", new double[]{24.7471, 90.4203});
-        cities.put("comilla", new double[]{23.4607, 91.1809});
-        cities.put("bogura", new double[]{24.8465, 89.3775});
-        cities.put("bandarban", new double[]{22.1980, 92.2200});
-        cities.put("chandpur", new double[]{23.2321, 90.6631});
-        cities.put("chuadanga", new double[]{23.6440, 88.8556});
-        cities.put("coxs_bazar", new double[]{21.4272, 92.0050});
-        cities.put("dinajpur", new double[]{25.6366, 88.6363});
-        cities.put("feni", new double[]{23.0159, 91.3976});
-        cities.put("fatulla", new double[]{23.6376, 90.4833});
-        cities.put("gazipur", new double[]{23.9999, 90.4203});
-        cities.put("jagannathpur", new double[]{24.7713, 91.5456});
-        cities.put("jamalpur", new double[]{24.9230, 89.9501});
-        cities.put("jashore", new double[]{23.1707, 89.2124});
-        cities.put("joydebpur", new double[]{23.9890, 90.4182});
-        cities.put("kishoreganj", new double[]{24.4331, 90.7866});
-        cities.put("kurigram", new double[]{25.8103, 89.6487});
-        cities.put("meherpur", new double[]{23.7721, 88.6314});
-        cities.put("narayanganj", new double[]{23.6226, 90.4998});
-        cities.put("narsingdi", new double[]{23.9207, 90.7188});
-        cities.put("palash", new double[]{23.9880, 90.6488});
-        cities.put("pabna", new double[]{24.0064, 89.2493});
-        cities.put("panchagarh", new double[]{26.3354, 88.5517});
-        cities.put("savar", new double[]{23.8583, 90.2667});
-        cities.put("satkhira", new double[]{22.7234, 89.0751});
-        cities.put("saidpur", new double[]{25.7785, 88.8974});
-        cities.put("sherpur", new double[]{25.0194, 90.0137});
-        cities.put("shyamnagar", new double[]{22.3373, 89.1087});
-        cities.put("sonargaon", new double[]{23.6445, 90.5984});
-
-        return cities;
-    }
-
-
-    private String interpretWeatherCode(int code) {
-        // OpenMeteo weather codes interpretation
-        if (code == 0) return "Clear";
-        if (code <= 3) return "Partly Cloudy";
-        if (code <= 48) return "Foggy";
-        if (code <= 57) return "Drizzle";
-        if (code <= 67) return "Rainy";
-        if (code <= 77) return "Snowy";
-        if (code <= 82) return "Heavy Rain";
-        if (code <= 86) return "Snow Showers";
-        if (code <= 99) return "Thunderstorm";
-        return "Unknown";
-    }
-
-    private String translateWeatherCondition(String condition) {
-        if (condition == null || condition.isBlank()) {
-            return "";
-        }
-
-        Map<String, String> translations = new HashMap<>();
-
-        // Clear/Sunny
-        translations.put("Clear", "পরিষ্কার");
-        translations.put("Sunny", "রৌদ্রোজ্জ্বল");
-        translations.put("Bright", "রৌদ্রোজ্জ্বল");
-
-        // Clouds
-        translations.put("Clouds", "মেঘলা");
-        translations.put("Cloudy", "মেঘলা");
-        translations.put("Overcast", "ঘন মেঘলা");
-        translations.put("Partly Cloudy", "আংশিক মেঘলা");
-        translations.put("Mostly Cloudy", "প্রধানত মেঘলা");
-
-        // Rain
-        translations.put("Rain", "বৃষ্টি");
-        translations.put("Rainy", "বৃষ্টি");
-        translations.put("Light Rain", "হালকা বৃষ্টি");
-        translations.put("Moderate Rain", "মাঝারি বৃষ্টি");
-        translations.put("Heavy Rain", "ভারী বৃষ্টি");
-        translations.put("Showers", "ঝিরিঝিরি বৃষ্টি");
-        translations.put("Drizzle", "গুঁড়ি গুঁড়ি বৃষ্টি");
-
-        // Thunderstorm
-        translations.put("Thunderstorm", "বজ্রপাত");
-        translations.put("Storm", "ঝড়");
-        translations.put("Severe Thunderstorm", "তীব্র বজ্রঝড়");
-
-        // Snow (for completeness, though Bangladesh rarely gets snow)
-        translations.put("Snow", "তুষারপাত");
-        translations.put("Light Snow", "হালকা তুষারপাত");
-        translations.put("Heavy Snow", "ভারী তুষারপাত");
-        translations.put("Sleet", "শিলাবৃষ্টি");
-
-        // Fog/Mist/Haze
-        translations.put("Fog", "কুয়াশা");
-        translations.put("Foggy", "কুয়াশাচ্ছন্ন");
-        translations.put("Mist", "হালকা কুয়াশা");
-        translations.put("Haze", "ধোঁয়াশা");
-
-        // Wind
-        translations.put("Wind", "ঝড়ো হাওয়া");
-        translations.put("Windy", "ঝড়ো হাওয়া");
-        translations.put("Strong Winds", "প্রবল বাতাস");
-
-        // Heat/Cold
-        translations.put("Hot", "গরম");
-        translations.put("Cold", "ঠান্ডা");
-        translations.put("Freezing", "বরফ জমা ঠান্ডা");
-
-        // Try exact match
-        String normalized = condition.trim();
-        if (translations.containsKey(normalized)) {
-            return translations.get(normalized);
-        }
-
-        // Try case-insensitive match
-        for (Map.Entry<String, String> entry : translations.entrySet()) {
-            if (entry.getKey().equalsIgnoreCase(normalized)) {
-                return entry.getValue();
-            }
-        }
-
-        // Fallback → translate dynamically
-        return translationService.translateToBengali(condition);
-    }
-
-
-    private CurrentWeather getDefaultWeatherForBangladesh() {
-        // Return typical Bangladesh weather as fallback
-        return CurrentWeather.builder()
-                .temperature(28.0)
-                .feelsLike(32.0)
-                .humidity(75.0)
-                .condition("Partly Cloudy")
-                .conditionBangla("আংশিক মেঘলা")
-                .windSpeed(10.0)
-                .build();
-    }
-
-    private List<WeatherForecast> generateDefaultForecast() {
-        List<WeatherForecast> forecast = new ArrayList<>();
+    // A value plus where it came from: a snapshot (possibly past its refresh window) or a live fetch
+    private record Served<T>(T value, Instant fetchedAt, boolean stale) {}
 
-        for (int i = 1; i <= config.getForecastDays(); i++) {
-            forecast.add(WeatherForecast.builder()
-                    .date(LocalDate.now().plusDays(i))
-                    .maxTemp(30.0 + (Math.random() * 4 - 2)) // 28-32°C range
-                    .minTemp(22.0 + (Math.random() * 4 - 2)) // 20-24°C range
-                    .condition("Partly Cloudy")
-                    .conditionBangla("আংশিক মেঘলা")
-                    .humidity(70.0 + (Math.random() * 20)) // 70-90%
-                    .rainfall(Math.random() * 10) // 0-10mm
-                    .farmingTips("আবহাওয়া অনুযায়ী কৃষিকাজ করুন।")
-                    .build());
-        }
-
-        return forecast;
-    }
+    private static final int TREND_DAYS = 7;
+    private static final int OPEN_METEO_BATCH_SIZE = 50;
+    private static final String OPEN_METEO_CURRENT_QUERY =
+            "current_weather=true&hourly=relative_humidity_2m";
+    private static final String OPEN_METEO_DAILY_QUERY =
+            "daily=temperature_2m_max,temperature_2m_min,weather_code,precipitation_sum,wind_speed_10m_max&forecast_days=%d";
 
+    // Helper methods
     private List<WeatherAlert> generateWeatherAlerts(List<WeatherForecast> forecast) {
         List<WeatherAlert> alerts = new ArrayList<>();
 
@@ -545,218 +857,45 @@ public class WeatherService {
 
     // Farming advice generation methods
 
-    private FarmingWeatherAdvice generateFarmingAdvice(CurrentWeather weather, WeatherRequest request) {
+    private FarmingWeatherAdvice generateFarmingAdvice(LocationAdvice advice, WeatherRequest request) {
+        FarmingAdviceEngine.Advice localized = advice.forLanguage(request.getLanguage());
         return FarmingWeatherAdvice.builder()
-                .generalAdvice(generateGeneralAdvice(weather))
-                .immediateActions(generateImmediateActions(weather))
-                .irrigationAdvice(generateIrrigationAdvice(weather))
-                .pestDiseaseRisk(generatePestDiseaseRisk(weather))
+                .generalAdvice(localized.general())
+                .immediateActions(localized.immediateActions())
+                .irrigationAdvice(localized.irrigation())
+                .pestDiseaseRisk(localized.pestDiseaseRisk())
                 .build();
     }
 
-    private FarmingWeatherAdvice generateForecastBasedFarmingAdvice(
-            List<WeatherForecast> forecast, List<WeatherAlert> alerts, WeatherRequest request) {
-
+    private FarmingWeatherAdvice generateForecastBasedFarmingAdvice(LocationAdvice advice, WeatherRequest request) {
+        FarmingAdviceEngine.Advice localized = advice.forLanguage(request.getLanguage());
         return FarmingWeatherAdvice.builder()
-                .generalAdvice("আগামী ৫ দিনের আবহাওয়া অনুযায়ী কৃষিকাজের পরিকল্পনা করুন।")
-                .weeklyPlan(generateWeeklyPlan(forecast))
-                .harvestRecommendation(generateHarvestRecommendation(forecast))
-                .cropAdvice(generateDefaultCropAdvice())
+                .generalAdvice(localized.forecastGeneral())
+                .weeklyPlan(localized.weeklyPlan())
+                .harvestRecommendation(localized.harvest())
+                .cropAdvice(adviceEngine.defaultCropAdvice())
                 .build();
     }
 
-    private FarmingWeatherAdvice generateComprehensiveFarmingAdvice(
-            CurrentWeather current, List<WeatherForecast> forecast,
-            List<WeatherAlert> alerts, WeatherRequest request) {
-
+    private FarmingWeatherAdvice generateComprehensiveFarmingAdvice(LocationAdvice advice, WeatherRequest request) {
+        FarmingAdviceEngine.Advice localized = advice.forLanguage(request.getLanguage());
         return FarmingWeatherAdvice.builder()
-                .generalAdvice(generateGeneralAdvice(current))
-                .immediateActions(generateImmediateActions(current))
-                .weeklyPlan(generateWeeklyPlan(forecast))
-                .irrigationAdvice(generateIrrigationAdvice(current))
-                .pestDiseaseRisk(generatePestDiseaseRisk(current))
-                .harvestRecommendation(generateHarvestRecommendation(forecast))
-                .cropAdvice(generateDefaultCropAdvice())
+                .generalAdvice(localized.general())
+                .immediateActions(localized.immediateActions())
+                .weeklyPlan(localized.weeklyPlan())
+                .irrigationAdvice(localized.irrigation())
+                .pestDiseaseRisk(localized.pestDiseaseRisk())
+                .harvestRecommendation(localized.harvest())
+                .cropAdvice(adviceEngine.defaultCropAdvice())
                 .build();
     }
 
-    private String generateGeneralAdvice(CurrentWeather weather) {
-        StringBuilder advice = new StringBuilder();
-
-        if (weather.getTemperature() > 35) {
-            advice.append("আজ খুব গরম পড়বে। ফসলে বেশি পানি দিন এবং দুপুরের রোদ থেকে রক্ষা করুন। ");
-        } else if (weather.getTemperature() < 15) {
-            advice.append("আজ ঠান্ডা আছে। ফসল ঠান্ডা থেকে রক্ষা করুন এবং পানি কম দিন। ");
-        }
-
-        if (weather.getHumidity() > 80) {
-            advice.append("আর্দ্রতা বেশি, ছত্রাক রোগের সম্ভাবনা আছে। ");
-        }
-
-        if (weather.getRainfall() != null && weather.getRainfall() > 10) {
-            advice.append("আজ বৃষ্টি হয়েছে। জমিতে পানি জমতে দিবেন না। ");
-        }
-
-        return advice.length() > 0 ? advice.toString() : "আজকের আবহাওয়া কৃষিকাজের জন্য উপযুক্ত।";
-    }
-
-    private List<String> generateImmediateActions(CurrentWeather weather) {
-        List<String> actions = new ArrayList<>();
-
-        if (weather.getTemperature() > 35) {
-            actions.add("সকাল বা বিকালে সেচ দিন");
-            actions.add("ফসলে ছায়ার ব্যবস্থা করুন");
-        }
-
-        if (weather.getHumidity() > 80) {
-            actions.add("ছত্রাকনাশক স্প্রে করুন");
-            actions.add("জমিতে বাতাস চলাচলের ব্যবস্থা করুন");
-        }
-
-        if (weather.getRainfall() != null && weather.getRainfall() > 20) {
-            actions.add("জমি থেকে অতিরিক্ত পানি বের করুন");
-            actions.add("নালা পরিষ্কার করুন");
-        }
-
-        if (actions.isEmpty()) {
-            actions.add("নিয়মিত ফসল পরিদর্শন করুন");
-        }
-
-        return actions;
-    }
-
-    private String generateIrrigationAdvice(CurrentWeather weather) {
-        if (weather.getRainfall() != null && weather.getRainfall() > 15) {
-            return "আজ বৃষ্টি হয়েছে, তাই সেচের প্রয়োজন নেই। আগামীকাল মাটির অবস্থা দেখে সেচ দিন।";
-        }
-
-        if (weather.getTemperature() > 32 && weather.getHumidity() < 60) {
-            return "গরম এবং শুষ্ক আবহাওয়া। সকাল বা সন্ধ্যায় পর্যাপ্ত সেচ দিন।";
-        }
-
-        if (weather.getHumidity() > 85) {
-            return "আর্দ্রতা বেশি। সেচ কম দিন এবং মাটিতে জল জমতে দিবেন না।";
-        }
-
-        return "মাটির অবস্থা দেখে প্রয়োজন অনুযায়ী সেচ দিন।";
-    }
-
-    private String generatePestDiseaseRisk(CurrentWeather weather) {
-        StringBuilder risk = new StringBuilder();
-
-        if (weather.getHumidity() > 80 && weather.getTemperature() > 25) {
-            risk.append("ছত্রাক রোগের ঝুঁকি বেশি। ");
-        }
-
-        if (weather.getTemperature() > 30 && weather.getHumidity() < 70) {
-            risk.append("পোকামাকড়ের আক্রমণের সম্ভাবনা আছে। ");
-        }
-
-        if (weather.getRainfall() != null && weather.getRainfall() > 25) {
-            risk.append("অতিরিক্ত বৃষ্টির কারণে রোগের ঝুঁকি বেড়েছে। ");
-        }
-
-        return risk.length() > 0 ? risk.toString() + "নিয়মিত ফসল পরিদর্শন করুন।"
-                : "রোগ ও পোকার ঝুঁকি কম। তবে নিয়মিত পরিদর্শন করুন।";
-    }
-
-    private List<String> generateWeeklyPlan(List<WeatherForecast> forecast) {
-        List<String> plan = new ArrayList<>();
-
-        for (int i = 0; i < forecast.size(); i++) {
-            WeatherForecast day = forecast.get(i);
-            StringBuilder dayPlan = new StringBuilder();
-
-            dayPlan.append(day.getDate().toString()).append(": ");
-
-            if (day.getRainfall() > 10) {
-                dayPlan.append("বৃষ্টির দিন - জমি পরিদর্শন করুন");
-            } else if (day.getMaxTemp() > 35) {
-                dayPlan.append("গরমের দিন - সকালে সেচ দিন");
-            } else if (day.getMaxTemp() < 20) {
-                dayPlan.append("ঠান্ডার দিন - ফসল রক্ষা করুন");
-            } else {
-                dayPlan.append("স্বাভাবিক কৃষিকাজ করুন");
-            }
-
-            plan.add(dayPlan.toString());
-        }
-
-        return plan;
-    }
-
-    private String generateHarvestRecommendation(List<WeatherForecast> forecast) {
-        boolean heavyRainExpected = forecast.stream()
-                .anyMatch(day -> day.getRainfall() > 20);
-
-        boolean heatWaveExpected = forecast.stream()
-                .anyMatch(day -> day.getMaxTemp() > 38);
-
-        if (heavyRainExpected) {
-            return "আগামী দিনগুলোতে ভারী বৃষ্টির সম্ভাবনা। পাকা ফসল তাড়াতাড়ি কেটে নিন।";
-        }
-
-        if (heatWaveExpected) {
-            return "তাপপ্রবাহের আগে পাকা ফসল কাটার চেষ্টা করুন।";
-        }
-
-        return "আবহাওয়া ফসল কাটার জন্য উপযুক্ত। উপযুক্ত সময়ে ফসল কাটুন।";
-    }
-
-    private List<CropSpecificAdvice> generateDefaultCropAdvice() {
-        List<CropSpecificAdvice> advice = new ArrayList<>();
-
-        advice.add(CropSpecificAdvice.builder()
-                .cropName("Rice")
-                .cropNameBangla("ধান")
-                .advice("নিয়মিত পানির ব্যবস্থা রাখুন এবং আগাছা পরিষ্কার করুন")
-                .riskLevel("LOW")
-                .actions(Arrays.asList("সেচ দিন", "সার প্রয়োগ করুন"))
-                .build());
-
-        advice.add(CropSpecificAdvice.builder()
-                .cropName("Wheat")
-                .cropNameBangla("গম")
-                .advice("মাটির আর্দ্রতা ঠিক রাখুন এবং রোগ দমনের ব্যবস্থা করুন")
-                .riskLevel("MEDIUM")
-                .actions(Arrays.asList("পরিমিত সেচ", "ছত্রাকনাশক প্রয়োগ"))
-                .build());
-
-        advice.add(CropSpecificAdvice.builder()
-                .cropName("Vegetables")
-                .cropNameBangla("সবজি")
-                .advice("নিয়মিত পরিচর্যা করুন এবং পোকামাকড়ের আক্রমণ থেকে রক্ষা করুন")
-                .riskLevel("MEDIUM")
-                .actions(Arrays.asList("নিয়মিত সেচ", "জৈব সার প্রয়োগ"))
-                .build());
-
-        return advice;
-    }
-
-    private String generateDailyFarmingTips(String condition, double maxTemp, double rainfall) {
-        StringBuilder tips = new StringBuilder();
-
-        if (condition.toLowerCase().contains("rain") || rainfall > 5) {
-            tips.append("বৃষ্টির দিন - জমিতে পানি জমতে দিবেন না। ");
-        } else if (maxTemp > 35) {
-            tips.append("গরমের দিন - সকাল বা বিকালে সেচ দিন। ");
-        } else if (maxTemp < 20) {
-            tips.append("ঠান্ডার দিন - ফসল ঠান্ডা থেকে রক্ষা করুন। ");
-        }
-
-        tips.append("নিয়মিত ফসল পরিদর্শন করুন।");
-
-        return tips.toString();
-    }
-
     private WeatherResponse createErrorWeatherResponse(WeatherRequest request) {
         return WeatherResponse.builder()
                 .location(request.getLocation())
                 .language(request.getLanguage())
                 .lastUpdated(LocalDateTime.now())
-                .dataSource("Error - Using Default Data")
-                .currentWeather(getDefaultWeatherForBangladesh())
-                .forecast(generateDefaultForecast())
+                .dataSource("Unavailable")
                 .alerts(new ArrayList<>())
                 .metadata(Map.of("error", "Unable to fetch live weather data"))
                 .build();
@@ -768,13 +907,13 @@ public class WeatherService {
             throw new RuntimeException("WeatherAPI key not configured");
         }
 
-        String url = String.format("%s/forecast.json?key=%s&q=%s,Bangladesh&days=%d&aqi=no&alerts=no",
+        String url = String.format("%s/forecast.json?key=%s&q=%s&days=%d&aqi=no&alerts=no",
                 config.getWeatherApiBaseUrl(),
                 config.getWeatherApiKey(),
-                URLEncoder.encode(location, StandardCharsets.UTF_8),
+                weatherApiLocationQuery(location),
                 config.getForecastDays());
 
-        ResponseEntity<Map> response = weatherRestTemplate.getForEntity(url, Map.class);
+        ResponseEntity<WeatherApiPayload> response = weatherRestTemplate.getForEntity(url, WeatherApiPayload.class);
 
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             return parseWeatherAPIForecast(response.getBody());
@@ -788,12 +927,13 @@ public class WeatherService {
             throw new RuntimeException("OpenWeatherMap API key not configured");
         }
 
-        String url = String.format("%s/forecast?q=%s,BD&appid=%s&units=metric&cnt=40",
+        String url = String.format("%s/forecast?%s&appid=%s&units=metric&cnt=40",
                 config.getOpenWeatherBaseUrl(),
-                URLEncoder.encode(location, StandardCharsets.UTF_8),
+                openWeatherLocationQuery(location),
                 config.getOpenWeatherApiKey());
 
-        ResponseEntity<Map> response = weatherRestTemplate.getForEntity(url, Map.class);
+        ResponseEntity<OpenWeatherForecastPayload> response =
+                weatherRestTemplate.getForEntity(url, OpenWeatherForecastPayload.class);
 
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             return parseOpenWeatherForecast(response.getBody());
@@ -802,66 +942,60 @@ public class WeatherService {
         throw new RuntimeException("Failed to fetch forecast from OpenWeatherMap");
     }
 
-    private List<WeatherForecast> parseWeatherAPIForecast(Map<String, Object> data) {
-        Map<String, Object> forecast = (Map<String, Object>) data.get("forecast");
-        List<Map<String, Object>> forecastdays = (List<Map<String, Object>>) forecast.get("forecastday");
-
-        return forecastdays.stream().map(day -> {
-            Map<String, Object> dayData = (Map<String, Object>) day.get("day");
-            Map<String, Object> condition = (Map<String, Object>) dayData.get("condition");
-            String conditionText = condition.get("text").toString();
+    private List<WeatherForecast> parseWeatherAPIForecast(WeatherApiPayload data) {
+        return data.getForecast().getForecastday().stream().map(day -> {
+            WeatherApiPayload.Day dayData = day.getDay();
+            WeatherApiPayload.Condition condition = dayData.getCondition();
+            String conditionText = condition.getText();
 
             return WeatherForecast.builder()
-                    .date(LocalDate.parse((String) day.get("date")))
-                    .maxTemp(((Number) dayData.get("maxtemp_c")).doubleValue())
-                    .minTemp(((Number) dayData.get("mintemp_c")).doubleValue())
+                    .date(LocalDate.parse(day.getDate()))
+                    .maxTemp(dayData.getMaxtempC())
+                    .minTemp(dayData.getMintempC())
                     .condition(conditionText)
-                    .conditionBangla(translateWeatherCondition(conditionText))
-                    .humidity(((Number) dayData.get("avghumidity")).doubleValue())
-                    .rainfall(((Number) dayData.get("totalprecip_mm")).doubleValue())
-                    .uvIndex(((Number) dayData.get("uv")).doubleValue())
-                    .iconUrl((String) condition.get("icon"))
-                    .farmingTips(generateDailyFarmingTips(conditionText,
-                            ((Number) dayData.get("maxtemp_c")).doubleValue(),
-                            ((Number) dayData.get("totalprecip_mm")).doubleValue()))
+                    .conditionBangla(conditionTranslator.fromWeatherApiCode(condition.getCode(), conditionText))
+                    .humidity(dayData.getAvghumidity())
+                    .rainfall(dayData.getTotalprecipMm())
+                    .uvIndex(dayData.getUv())
+                    .iconUrl(condition.getIcon())
+                    .farmingTips(adviceEngine.dailyTip(conditionText,
+                            dayData.getMaxtempC(),
+                            dayData.getTotalprecipMm()))
                     .build();
         }).collect(Collectors.toList());
     }
 
-    private List<WeatherForecast> parseOpenWeatherForecast(Map<String, Object> data) {
-        List<Map<String, Object>> list = (List<Map<String, Object>>) data.get("list");
-
+    private List<WeatherForecast> parseOpenWeatherForecast(OpenWeatherForecastPayload data) {
         // Group by date and create daily forecasts
-        Map<LocalDate, List<Map<String, Object>>> groupedByDate = list.stream()
-                .collect(Collectors.groupingBy(item -> {
-                    long timestamp = ((Number) item.get("dt")).longValue();
-                    return LocalDateTime.ofEpochSecond(timestamp, 0, ZoneOffset.ofHours(6)).toLocalDate();
-                }));
+        Map<LocalDate, List<OpenWeatherPayload>> groupedByDate = data.getList().stream()
+                .collect(Collectors.groupingBy(item ->
+                        LocalDateTime.ofEpochSecond(item.getDt(), 0, ZoneOffset.ofHours(6)).toLocalDate()));
 
         return groupedByDate.entrySet().stream()
                 .limit(config.getForecastDays())
                 .map(entry -> {
                     LocalDate date = entry.getKey();
-                    List<Map<String, Object>> dayData = entry.getValue();
+                    List<OpenWeatherPayload> dayData = entry.getValue();
 
                     // Calculate daily values
                     double maxTemp = dayData.stream()
-                            .mapToDouble(item -> ((Number) ((Map) item.get("main")).get("temp_max")).doubleValue())
+                            .mapToDouble(item -> item.getMain().getTempMax())
                             .max().orElse(30.0);
 
                     double minTemp = dayData.stream()
-                            .mapToDouble(item -> ((Number) ((Map) item.get("main")).get("temp_min")).doubleValue())
+                            .mapToDouble(item -> item.getMain().getTempMin())
                             .min().orElse(20.0);
 
-                    String condition = ((List<Map>) dayData.get(0).get("weather")).get(0).get("main").toString();
+                    OpenWeatherPayload.Condition weather = dayData.get(0).getWeather().get(0);
+                    String condition = weather.getMain();
 
                     return WeatherForecast.builder()
                             .date(date)
                             .maxTemp(maxTemp)
                             .minTemp(minTemp)
                             .condition(condition)
-                            .conditionBangla(translateWeatherCondition(condition))
-                            .farmingTips(generateDailyFarmingTips(condition, maxTemp, 0.0))
+                            .conditionBangla(conditionTranslator.fromOpenWeatherId(weather.getId(), condition))
+                            .farmingTips(adviceEngine.dailyTip(condition, maxTemp, 0.0))
                             .build();
                 })
                 .collect(Collectors.toList());
@@ -0,0 +1,114 @@
+package com.example.backend.util;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+
+/**
+ * ETag / Last-Modified / Cache-Control handling for JSON endpoints whose body is
+ * derived from a versioned source (a weather snapshot, a news cache entry).
+ * The ETag is a digest of the version identity rather than of the serialized
+ * body, so a revalidation costs no serialization at all. Only GET and HEAD are
+ * answered 304; on any other method a matching If-None-Match is answered 412
+ * and If-Modified-Since is ignored, as RFC 9110 requires. Clients revalidate
+ * through the GET endpoints.
+ */
+public final class ConditionalResponses {
+
+    private ConditionalResponses() {}
+
+    public static String etag(Object... versionParts) {
+        StringBuilder identity = new StringBuilder();
+        for (Object part : versionParts) {
+            identity.append(part).append('\u001f');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(identity.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Fresh for whatever is left of maxAge since lastModified; never negative
+    public static CacheControl freshFor(Instant lastModified, Duration maxAge, boolean shared) {
+        Duration remaining = maxAge.minus(Duration.between(lastModified, Instant.now()));
+        CacheControl cacheControl = CacheControl.maxAge(remaining.isNegative() ? Duration.ZERO : remaining);
+        return shared ? cacheControl.cachePublic() : cacheControl.cachePrivate();
+    }
+
+    public static <T> ResponseEntity<T> respond(WebRequest request, T body, String etag, Instant lastModified,
+                                                CacheControl cacheControl) {
+        // Last-Modified has one-second resolution on the wire
+        long lastModifiedSeconds = lastModified.getEpochSecond();
+        boolean getOrHead = isGetOrHead(request);
+        if (matches(request, etag, lastModifiedSeconds, getOrHead)) {
+            if (!getOrHead) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .lastModified(lastModifiedSeconds * 1000)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModifiedSeconds * 1000)
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+
+    // True when the client's validators match the current version
+    private static boolean matches(WebRequest request, String etag, long lastModifiedSeconds, boolean getOrHead) {
+        // If-None-Match takes precedence over If-Modified-Since when both are sent
+        String[] ifNoneMatch = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String header : ifNoneMatch) {
+                for (String candidate : header.split(",")) {
+                    String tag = candidate.trim();
+                    if (tag.startsWith("W/")) {
+                        tag = tag.substring(2);
+                    }
+                    if (tag.equals("*") || tag.equals(etag)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        String ifModifiedSince = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince == null || !getOrHead) {
+            return false;
+        }
+        try {
+            long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toEpochSecond();
+            return lastModifiedSeconds <= since;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static boolean isGetOrHead(WebRequest request) {
+        if (!(request instanceof ServletWebRequest servletRequest)) {
+            return false;
+        }
+        HttpMethod method = servletRequest.getHttpMethod();
+        return HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method);
+    }
+}
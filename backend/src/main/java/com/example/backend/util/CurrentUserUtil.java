@@ -4,10 +4,14 @@ package com.example.backend.util;
 import com.example.backend.entity.auth.User;
 import com.example.backend.repository.auth.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 public class CurrentUserUtil {
@@ -27,5 +31,15 @@ public class CurrentUserUtil {
     public Long getCurrentUserId() {
         return getCurrentUser().getId();
     }
+
+    // Empty for anonymous callers, which permitAll routes let through
+    public Optional<Long> findCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        return userRepository.findByEmailIgnoreCase(authentication.getName()).map(User::getId);
+    }
 }
 
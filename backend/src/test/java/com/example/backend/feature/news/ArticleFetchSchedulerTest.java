@@ -0,0 +1,154 @@
+package com.example.backend.feature.news;
+
+import com.example.backend.feature.news.ConditionalPageFetcher.Result;
+import com.example.backend.feature.news.ConditionalPageFetcher.Validators;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleFetchSchedulerTest {
+
+    private HttpServer server;
+    private ExecutorService handlers;
+    private ArticleFetchScheduler scheduler;
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+    private final List<Long> starts = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        handlers = Executors.newCachedThreadPool();
+        server.setExecutor(handlers);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+
+    @Test
+    void requestsToOneHostStayWithinItsLimit() {
+        scheduler = scheduler(2, 8, 0, 1, 50);
+
+        Map<String, Result> results = scheduler.fetchAll(urls("/slow/1", "/slow/2", "/slow/3", "/slow/4", "/slow/5"), deadlineIn(5000));
+
+        assertThat(results).hasSize(5);
+        assertThat(maxInFlight).hasValue(2);
+    }
+
+    @Test
+    void requestStartsOnOneHostAreSpacedOut() {
+        scheduler = scheduler(4, 8, 150, 1, 50);
+
+        assertThat(scheduler.fetchAll(urls("/ok/1", "/ok/2", "/ok/3"), deadlineIn(5000))).hasSize(3);
+
+        List<Long> sorted = starts.stream().sorted().toList();
+        for (int i = 1; i < sorted.size(); i++) {
+            assertThat(TimeUnit.NANOSECONDS.toMillis(sorted.get(i) - sorted.get(i - 1))).isGreaterThanOrEqualTo(120);
+        }
+    }
+
+    @Test
+    void transientFailuresAreRetriedWithBackoff() {
+        scheduler = scheduler(2, 8, 0, 3, 100);
+        long start = System.nanoTime();
+
+        Map<String, Result> results = scheduler.fetchAll(urls("/flaky/1"), deadlineIn(5000));
+
+        assertThat(results).containsKey(url("/flaky/1"));
+        assertThat(hits.get("/flaky/1")).hasValue(3);
+        // Two backoffs of at least 100 ms and 200 ms before the third attempt
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    void clientErrorsAreNotRetried() {
+        scheduler = scheduler(2, 8, 0, 3, 50);
+
+        assertThat(scheduler.fetchAll(urls("/missing/1"), deadlineIn(5000))).isEmpty();
+        assertThat(hits.get("/missing/1")).hasValue(1);
+    }
+
+    @Test
+    void deadlineReturnsWhateverFinishedInTime() {
+        scheduler = scheduler(2, 8, 0, 1, 50);
+        long start = System.nanoTime();
+
+        Map<String, Result> results = scheduler.fetchAll(urls("/ok/1", "/hang/1"), deadlineIn(500));
+
+        assertThat(results).containsOnlyKeys(url("/ok/1"));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1500);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        int hit = hits.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+        starts.add(System.nanoTime());
+        int running = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(running, Math::max);
+        try {
+            if (path.startsWith("/slow")) {
+                pause(200);
+            } else if (path.startsWith("/hang")) {
+                pause(3000);
+            }
+            int status = path.startsWith("/missing") ? 404 : path.startsWith("/flaky") && hit < 3 ? 503 : 200;
+            byte[] body = ("<html><body><p>" + path + "</p></body></html>").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ArticleFetchScheduler scheduler(int maxPerHost, int maxConnections, long hostDelayMs,
+                                                   int maxAttempts, long backoffMs) {
+        return new ArticleFetchScheduler(maxPerHost, maxConnections, hostDelayMs, maxAttempts, backoffMs, 4000, "test-agent");
+    }
+
+    private Map<String, Validators> urls(String... paths) {
+        Map<String, Validators> urls = new LinkedHashMap<>();
+        for (String path : paths) {
+            urls.put(url(path), Validators.NONE);
+        }
+        return urls;
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static long deadlineIn(long millis) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
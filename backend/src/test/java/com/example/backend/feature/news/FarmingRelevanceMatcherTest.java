@@ -0,0 +1,62 @@
+package com.example.backend.feature.news;
+
+import com.example.backend.dto.news.response.NewsArticle;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FarmingRelevanceMatcherTest {
+
+    private final FarmingRelevanceMatcher matcher = new FarmingRelevanceMatcher(1.0);
+
+    @Test
+    void scoresWholeKeywordsCaseInsensitively() {
+        assertThat(summaryScore("Farmer brings in the HARVEST")).isCloseTo(2.0, within(1e-9));
+        assertThat(summaryScore("কৃষক ধান কাটছেন")).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    void ignoresKeywordsInsideOtherWords() {
+        assertThat(summaryScore("Traffic in Dhanmondi: ধানমন্ডি")).isZero();
+        assertThat(summaryScore("সারা দেশে বৃষ্টি")).isZero();
+        assertThat(summaryScore("The seeded players")).isZero();
+        assertThat(summaryScore("Rabies cases rise")).isZero();
+        assertThat(summaryScore("Dental implant")).isZero();
+        assertThat(summaryScore("planet")).isZero();
+    }
+
+    @Test
+    void acceptsListedInflections() {
+        assertThat(summaryScore("crops")).isCloseTo(1.0, within(1e-9));
+        assertThat(summaryScore("farmers")).isCloseTo(1.0, within(1e-9));
+        assertThat(summaryScore("planting")).isCloseTo(0.5, within(1e-9));
+        assertThat(summaryScore("ধানের দাম")).isCloseTo(1.0, within(1e-9));
+        assertThat(summaryScore("কৃষকদের জন্য")).isCloseTo(1.0, within(1e-9));
+        assertThat(summaryScore("সারের সংকট")).isCloseTo(0.4, within(1e-9));
+    }
+
+    @Test
+    void matchesMultiWordKeywords() {
+        assertThat(summaryScore("Food security in the north")).isCloseTo(0.7, within(1e-9));
+    }
+
+    @Test
+    void titleCountsDoubleAndRepeatedContentIsNotCountedTwice() {
+        NewsArticle listingOnly = NewsArticle.builder().title("Paddy").summary("Irrigation").content("Irrigation").build();
+        assertThat(matcher.score(listingOnly)).isCloseTo(3.0, within(1e-9));
+
+        NewsArticle full = NewsArticle.builder().title("Paddy").summary("Irrigation").content("Irrigation canals").build();
+        assertThat(matcher.score(full)).isCloseTo(4.0, within(1e-9));
+    }
+
+    @Test
+    void ambiguousWordsAloneStayBelowTheThreshold() {
+        assertThat(matcher.isRelevant(NewsArticle.builder().summary("Organic rural cafe opens").build())).isFalse();
+        assertThat(matcher.isRelevant(NewsArticle.builder().title("Boro harvest begins").build())).isTrue();
+    }
+
+    private double summaryScore(String text) {
+        return matcher.score(NewsArticle.builder().summary(text).build());
+    }
+}
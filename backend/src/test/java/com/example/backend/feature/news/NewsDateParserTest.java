@@ -0,0 +1,94 @@
+package com.example.backend.feature.news;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsDateParserTest {
+
+    private final NewsDateParser parser = new NewsDateParser();
+
+    @Test
+    void relativeDatesCountBackFromNow() {
+        assertCloseToNow(parser.parse("2 hours ago").orElseThrow(), Duration.ofHours(2));
+        assertCloseToNow(parser.parse("an hour ago").orElseThrow(), Duration.ofHours(1));
+        assertCloseToNow(parser.parse("Updated 15 mins ago").orElseThrow(), Duration.ofMinutes(15));
+        assertCloseToNow(parser.parse("৩ ঘণ্টা আগে").orElseThrow(), Duration.ofHours(3));
+        assertCloseToNow(parser.parse("১০ মিনিট আগে").orElseThrow(), Duration.ofMinutes(10));
+        assertCloseToNow(parser.parse("just now").orElseThrow(), Duration.ZERO);
+    }
+
+    @Test
+    void todayAndYesterdayAreStartOfDay() {
+        assertThat(parser.parse("Yesterday, 10:30 AM")).contains(LocalDate.now().minusDays(1).atStartOfDay());
+        assertThat(parser.parse("আজ")).contains(LocalDate.now().atStartOfDay());
+    }
+
+    @Test
+    void banglaDigitsAndMonths() {
+        assertThat(parser.parse("১৫ জানুয়ারি ২০২৫")).contains(LocalDateTime.of(2025, 1, 15, 0, 0));
+        assertThat(parser.parse("০৩ আগস্ট ২০২৪, ১০:১৫")).contains(LocalDateTime.of(2024, 8, 3, 10, 15));
+        assertThat(parser.parse("প্রকাশ: ১লা বৈশাখ")).isEmpty();
+        assertThat(parser.parse("২১শে ফেব্রুয়ারী ২০২৫")).contains(LocalDateTime.of(2025, 2, 21, 0, 0));
+    }
+
+    @Test
+    void englishMonthNamesInEitherOrder() {
+        assertThat(parser.parse("5 June 2025")).contains(LocalDateTime.of(2025, 6, 5, 0, 0));
+        assertThat(parser.parse("June 5, 2025")).contains(LocalDateTime.of(2025, 6, 5, 0, 0));
+        assertThat(parser.parse("Published: Sept. 21st, 2024 08:05 PM")).contains(LocalDateTime.of(2024, 9, 21, 20, 5));
+    }
+
+    @Test
+    void twelveOClockAmAndPm() {
+        assertThat(parser.parse("June 5, 2025 12:00 AM")).contains(LocalDateTime.of(2025, 6, 5, 0, 0));
+        assertThat(parser.parse("June 5, 2025 12:30 p.m.")).contains(LocalDateTime.of(2025, 6, 5, 12, 30));
+        assertThat(parser.parse("June 5, 2025 12:45 am")).contains(LocalDateTime.of(2025, 6, 5, 0, 45));
+        assertThat(parser.parse("June 5, 2025 1:05 PM")).contains(LocalDateTime.of(2025, 6, 5, 13, 5));
+    }
+
+    @Test
+    void numericDatesAreReadDayFirst() {
+        assertThat(parser.parse("05/06/2025")).contains(LocalDateTime.of(2025, 6, 5, 0, 0));
+        assertThat(parser.parse("25-12-2024 18:00")).contains(LocalDateTime.of(2024, 12, 25, 18, 0));
+        // Month-first dates with a day past 12 are not guessed at
+        assertThat(parser.parse("12/25/2024")).isEmpty();
+        assertThat(parser.parse("31/02/2024")).isEmpty();
+    }
+
+    @Test
+    void isoDatesWithAndWithoutOffset() {
+        assertThat(parser.parse("2025-06-05")).contains(LocalDateTime.of(2025, 6, 5, 0, 0));
+        assertThat(parser.parse("2025-06-05T08:30:15")).contains(LocalDateTime.of(2025, 6, 5, 8, 30, 15));
+        assertThat(parser.parse("2025-06-05T08:30:00+0600")).contains(LocalDateTime.of(2025, 6, 5, 8, 30)
+                .atOffset(ZoneOffset.ofHours(6)).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+    }
+
+    @Test
+    void machineReadableAttributeWinsOverVisibleText() {
+        Element element = Jsoup.parse("<span class=\"date\"><time datetime=\"2025-06-05T08:30:00\">3 hours ago</time></span>")
+                .selectFirst("span");
+
+        assertThat(parser.parse(element)).contains(LocalDateTime.of(2025, 6, 5, 8, 30));
+    }
+
+    @Test
+    void unparseableTextIsEmpty() {
+        assertThat(parser.parse("no date here")).isEmpty();
+        assertThat(parser.parse("   ")).isEmpty();
+        assertThat(parser.parse((String) null)).isEmpty();
+    }
+
+    private static void assertCloseToNow(LocalDateTime parsed, Duration ago) {
+        LocalDateTime expected = LocalDateTime.now().minus(ago);
+        assertThat(Duration.between(parsed, expected).abs()).isLessThan(Duration.ofSeconds(5));
+    }
+}
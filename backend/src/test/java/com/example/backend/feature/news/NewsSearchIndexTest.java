@@ -0,0 +1,107 @@
+package com.example.backend.feature.news;
+
+import com.example.backend.dto.news.response.NewsArticle;
+import com.example.backend.entity.news.NewsArticleRecord;
+import com.example.backend.repository.news.NewsArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NewsSearchIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private NewsSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        NewsArticleRepository repository = mock(NewsArticleRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                record(1, "Rice prices climb", "Traders report higher rice prices at wholesale markets", NOW.minusDays(1)),
+                record(2, "Monsoon arrives early", "Farmers prepare fields as rice planting begins", NOW.minusDays(2)),
+                record(3, "Cattle market opens", "Livestock traders gather before the festival", NOW.minusDays(3)),
+                record(4, "ধানের দাম বেড়েছে", "কৃষকেরা ধান বিক্রি করছেন", NOW.minusDays(4))));
+        index = new NewsSearchIndex(repository);
+        index.load();
+    }
+
+    @Test
+    void titleMatchesOutrankBodyMatches() {
+        assertThat(titles(index.search("rice", 10))).containsExactly("Rice prices climb", "Monsoon arrives early");
+    }
+
+    @Test
+    void rareTermsWeighMoreThanCommonOnes() {
+        // "traders" is in two articles, "festival" in one
+        assertThat(titles(index.search("traders festival", 10)).get(0)).isEqualTo("Cattle market opens");
+    }
+
+    @Test
+    void lastTermAndStarredTermsMatchAsPrefixes() {
+        assertThat(titles(index.search("live", 10))).containsExactly("Cattle market opens");
+        assertThat(titles(index.search("mons* rice", 10))).startsWith("Monsoon arrives early");
+        assertThat(index.search("mons rice", 10)).hasSize(2);
+    }
+
+    @Test
+    void keepsBanglaWordsWholeWithTheirVowelSigns() {
+        assertThat(NewsSearchIndex.tokenize("ধানের দাম, বেড়েছে!")).containsExactly("ধানের", "দাম", "বেড়েছে");
+        assertThat(titles(index.search("ধান", 10))).containsExactly("ধানের দাম বেড়েছে");
+    }
+
+    @Test
+    void honoursTheLimitAndBreaksTiesByRecency() {
+        NewsArticleRepository repository = mock(NewsArticleRepository.class);
+        when(repository.findAll()).thenReturn(List.of(
+                record(1, "Jute exports", "Same text", NOW.minusDays(5)),
+                record(2, "Jute exports", "Same text", NOW.minusDays(1)),
+                record(3, "Jute exports", "Same text", NOW.minusDays(3))));
+        NewsSearchIndex ties = new NewsSearchIndex(repository);
+        ties.load();
+
+        List<NewsArticle> results = ties.search("jute", 2);
+
+        assertThat(results).extracting(NewsArticle::getPublishedDate)
+                .containsExactly(NOW.minusDays(1), NOW.minusDays(3));
+    }
+
+    @Test
+    void reindexingAndPurgingUpdateTheResults() {
+        index.addAll(List.of(record(3, "Cattle prices steady", "Rice straw feed is cheap", NOW)));
+        assertThat(titles(index.search("festival", 10))).isEmpty();
+        assertThat(titles(index.search("rice", 10))).contains("Cattle prices steady");
+
+        assertThat(index.removePublishedBefore(NOW.minusDays(1).minusHours(1))).isEqualTo(2);
+        assertThat(titles(index.search("rice", 10))).containsExactly("Rice prices climb", "Cattle prices steady");
+    }
+
+    @Test
+    void emptyQueriesFindNothing() {
+        assertThat(index.search("   ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+        assertThat(index.search("rice", 0)).isEmpty();
+    }
+
+    private static NewsArticleRecord record(long id, String title, String summary, LocalDateTime published) {
+        return NewsArticleRecord.builder()
+                .id(id)
+                .title(title)
+                .summary(summary)
+                .content(summary)
+                .url("https://example.com/" + id)
+                .source("test")
+                .publishedDate(published)
+                .language("en")
+                .build();
+    }
+
+    private static List<String> titles(List<NewsArticle> articles) {
+        return articles.stream().map(NewsArticle::getTitle).toList();
+    }
+}
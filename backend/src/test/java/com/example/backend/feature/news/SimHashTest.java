@@ -0,0 +1,45 @@
+package com.example.backend.feature.news;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTest {
+
+    @Test
+    void identicalTextHasZeroDistance() {
+        String headline = "Boro paddy harvest begins early in the haor region";
+        assertThat(SimHash.distance(SimHash.fingerprint(headline), SimHash.fingerprint(headline))).isZero();
+    }
+
+    @Test
+    void ignoresCaseFunctionWordsAndPlurals() {
+        long original = SimHash.fingerprint("Farmers expect a record harvest of crops this year");
+        long rewrite = SimHash.fingerprint("FARMER expects the record harvest for the crop, says year");
+
+        assertThat(SimHash.distance(original, rewrite)).isZero();
+    }
+
+    @Test
+    void nearDuplicatesAreCloserThanUnrelatedStories() {
+        long story = SimHash.fingerprint("Government raises fertilizer subsidy for Aman season farmers in northern districts");
+        long sameStory = SimHash.fingerprint("Government raises fertiliser subsidy for Aman season farmers in the northern districts");
+        long otherStory = SimHash.fingerprint("Cricket team wins the series after a thrilling final over in Chattogram");
+
+        assertThat(SimHash.distance(story, sameStory)).isLessThan(SimHash.distance(story, otherStory));
+        assertThat(SimHash.distance(story, otherStory)).isGreaterThan(16);
+    }
+
+    @Test
+    void distanceCountsDifferingBits() {
+        assertThat(SimHash.distance(0L, 0L)).isZero();
+        assertThat(SimHash.distance(0L, -1L)).isEqualTo(64);
+        assertThat(SimHash.distance(0b1010L, 0b0110L)).isEqualTo(2);
+    }
+
+    @Test
+    void emptyTextHasAnEmptyFingerprint() {
+        assertThat(SimHash.fingerprint("")).isZero();
+        assertThat(SimHash.fingerprint("the of and")).isZero();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.feature.weather.GazetteerEntry.Level;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GazetteerTest {
+
+    private static Gazetteer gazetteer;
+
+    @BeforeAll
+    static void load() {
+        gazetteer = new Gazetteer();
+    }
+
+    @Test
+    void foldDropsPunctuationCaseStopwordsAndSpellingNoise() {
+        assertThat(folded("Cox's Bazar")).isEqualTo("coxsbazar");
+        assertThat(folded("  DHAKA District ")).isEqualTo("dhaka");
+        assertThat(folded("Barishal")).isEqualTo(folded("Barisal"));
+        assertThat(folded("Comilla")).isEqualTo(folded("Comila"));
+        assertThat(folded("চট্টগ্রাম")).isEqualTo("চট্টগ্রাম");
+    }
+
+    @Test
+    void foldRejectsNamesLongerThanTheBuffer() {
+        assertThat(Gazetteer.fold("x".repeat(10), new char[4])).isEqualTo(-1);
+        assertThat(Gazetteer.fold(null, new char[4])).isEqualTo(-1);
+    }
+
+    @Test
+    void lookupMatchesAliasesAndBanglaNames() {
+        assertThat(gazetteer.lookup("chittagong").getName()).isEqualTo("Chattogram");
+        assertThat(gazetteer.lookup("Comilla").getName()).isEqualTo("Cumilla");
+        assertThat(gazetteer.lookup("কক্সবাজার").getName()).isEqualTo("Cox's Bazar");
+        assertThat(gazetteer.lookup("coxs_bazar").getName()).isEqualTo("Cox's Bazar");
+        assertThat(gazetteer.lookup("Atlantis")).isNull();
+    }
+
+    @Test
+    void upazilasWithoutCoordinatesTakeTheirDistrictsWeather() {
+        GazetteerEntry amtali = gazetteer.lookup("Amtali");
+        assertThat(amtali.getLevel()).isEqualTo(Level.UPAZILA);
+        assertThat(amtali.isOwnCoordinates()).isFalse();
+        assertThat(amtali.weatherCell().getName()).isEqualTo("Barguna");
+        assertThat(gazetteer.lookup("Savar").weatherCell().getName()).isEqualTo("Savar");
+    }
+
+    @Test
+    void districtsWinOverDivisionsOfTheSameName() {
+        assertThat(gazetteer.lookup("Dhaka").getLevel()).isEqualTo(Level.DISTRICT);
+        assertThat(gazetteer.lookup("Dhaka Division").getLevel()).isEqualTo(Level.DISTRICT);
+    }
+
+    @Test
+    void resolveFallsBackFromUnknownUpazilaToDistrict() {
+        assertThat(gazetteer.resolve("Dhaka", "Dhaka", "Savar").getName()).isEqualTo("Savar");
+        assertThat(gazetteer.resolve("Dhaka", "Dhaka", "Nowhere").getName()).isEqualTo("Dhaka");
+        assertThat(gazetteer.resolve(null, null, "Savar").getName()).isEqualTo("Savar");
+        assertThat(gazetteer.resolve("Sylhet", null, null).getName()).isEqualTo("Sylhet");
+    }
+
+    @Test
+    void nearestFindsTheClosestDistrictOrUpazila() {
+        // A little north-west of Savar's centre
+        GazetteerEntry savar = gazetteer.nearest(23.87, 90.25);
+        assertThat(savar.getName()).isEqualTo("Savar");
+
+        GazetteerEntry coxsBazar = gazetteer.nearest(21.43, 92.01);
+        assertThat(coxsBazar.getName()).isEqualTo("Cox's Bazar");
+        assertThat(coxsBazar.getLevel()).isNotEqualTo(Level.DIVISION);
+    }
+
+    @Test
+    void nearestClampsPointsOutsideTheCountry() {
+        // Bay of Bengal, far south of every entry
+        assertThat(gazetteer.nearest(15.0, 92.0)).isNotNull();
+        assertThat(gazetteer.nearest(15.0, 92.0).getName()).isEqualTo("Cox's Bazar");
+    }
+
+    private static String folded(String name) {
+        char[] buffer = new char[96];
+        return new String(buffer, 0, Gazetteer.fold(name, buffer));
+    }
+}
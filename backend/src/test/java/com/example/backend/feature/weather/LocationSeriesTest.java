@@ -0,0 +1,141 @@
+package com.example.backend.feature.weather;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocationSeriesTest {
+
+    @Test
+    void pendingDataStaysPendingUntilTheSegmentIsMarkedWritten() throws IOException {
+        LocationSeries series = new LocationSeries();
+        series.appendObservation(100, 30f, 80f, 0f, 5f);
+        series.upsertDay(20_000, 33f, 25f, 1f, 70f);
+
+        write(series, false);
+        assertThat(series.hasPending()).isTrue();
+
+        series.markWritten();
+        assertThat(series.hasPending()).isFalse();
+    }
+
+    @Test
+    void failedWriteIsRetriedWithEverythingStillPending() throws IOException {
+        LocationSeries series = new LocationSeries();
+        series.appendObservation(100, 30f, 80f, 0f, 5f);
+        write(series, false);
+
+        // The segment never made it into place: no markWritten, and a later observation arrives
+        series.appendObservation(200, 31f, 81f, 0f, 5f);
+        LocationSeries replayed = replay(write(series, false));
+
+        assertThat(replayed.size).isEqualTo(2);
+        assertThat(replayed.times).startsWith(100, 200);
+    }
+
+    @Test
+    void dayChangedAfterWriteStaysDirty() throws IOException {
+        LocationSeries series = new LocationSeries();
+        series.upsertDay(20_000, 33f, 25f, 1f, 70f);
+        write(series, false);
+
+        series.upsertDay(20_000, 35f, 26f, 0f, 65f);
+        series.markWritten();
+
+        assertThat(series.hasPending()).isTrue();
+        assertThat(series.dirtyDays).containsExactly(20_000);
+    }
+
+    @Test
+    void incrementalWriteOnlyCarriesNewRows() throws IOException {
+        LocationSeries series = new LocationSeries();
+        series.appendObservation(100, 30f, 80f, 0f, 5f);
+        series.upsertDay(20_000, 33f, 25f, 1f, 70f);
+        write(series, false);
+        series.markWritten();
+
+        series.appendObservation(200, 31f, 81f, 0f, 5f);
+        LocationSeries replayed = replay(write(series, false));
+
+        assertThat(replayed.size).isEqualTo(1);
+        assertThat(replayed.times[0]).isEqualTo(200);
+        assertThat(replayed.daySize).isZero();
+    }
+
+    @Test
+    void replayOfAFoldAndItsSourcesKeepsOneCopyPerTimestamp() throws IOException {
+        LocationSeries series = new LocationSeries();
+        series.appendObservation(100, 30f, 80f, 0f, 5f);
+        byte[] first = write(series, false);
+        series.markWritten();
+        series.appendObservation(200, 31f, 81f, 0f, 5f);
+        series.upsertDay(20_000, 33f, 25f, 1f, 70f);
+        byte[] second = write(series, false);
+        series.markWritten();
+        byte[] fold = write(series, true);
+
+        // Crash after the fold was written but before the originals were deleted
+        LocationSeries replayed = new LocationSeries();
+        for (byte[] segment : new byte[][]{first, second, fold}) {
+            replayed.readBlock(new DataInputStream(new ByteArrayInputStream(segment)));
+        }
+
+        assertThat(replayed.size).isEqualTo(2);
+        assertThat(replayed.times).startsWith(100, 200);
+        assertThat(replayed.daySize).isEqualTo(1);
+        assertThat(replayed.maxTemp[0]).isEqualTo(33f);
+        assertThat(replayed.hasPending()).isFalse();
+    }
+
+    @Test
+    void observationsStaySortedWhenFetchesFinishOutOfOrder() {
+        LocationSeries series = new LocationSeries();
+        series.appendObservation(200, 30f, 80f, 0f, 5f);
+        series.appendObservation(150, 31f, 81f, 0f, 5f);
+
+        assertThat(series.times).startsWith(200, 200);
+        assertThat(series.lowerBound(200)).isZero();
+    }
+
+    @Test
+    void trimDropsOldRowsAndKeepsFlushMarksAligned() throws IOException {
+        LocationSeries series = new LocationSeries();
+        series.appendObservation(100, 30f, 80f, 0f, 5f);
+        series.appendObservation(200, 31f, 81f, 0f, 5f);
+        write(series, false);
+        series.markWritten();
+        series.appendObservation(300, 32f, 82f, 0f, 5f);
+        series.upsertDay(19_999, 33f, 25f, 1f, 70f);
+        series.upsertDay(20_000, 34f, 26f, 1f, 70f);
+
+        series.trimBefore(150, 20_000);
+
+        assertThat(series.size).isEqualTo(2);
+        assertThat(series.times).startsWith(200, 300);
+        assertThat(series.daySize).isEqualTo(1);
+        assertThat(series.days[0]).isEqualTo(20_000);
+        LocationSeries replayed = replay(write(series, false));
+        assertThat(replayed.size).isEqualTo(1);
+        assertThat(replayed.times[0]).isEqualTo(300);
+    }
+
+    private static byte[] write(LocationSeries series, boolean everything) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            series.writePending(out, everything);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static LocationSeries replay(byte[] segment) throws IOException {
+        LocationSeries series = new LocationSeries();
+        series.readBlock(new DataInputStream(new ByteArrayInputStream(segment)));
+        return series;
+    }
+}
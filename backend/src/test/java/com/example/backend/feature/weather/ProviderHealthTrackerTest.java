@@ -0,0 +1,142 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.config.WeatherConfig;
+import com.example.backend.feature.weather.ProviderHealthTracker.BreakerState;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderHealthTrackerTest {
+
+    private static final WeatherProvider PROVIDER = WeatherProvider.OPEN_METEO;
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long COOL_DOWN_MS = 300;
+
+    private static ProviderHealthTracker tracker(long breakerOpenMs) {
+        WeatherConfig config = new WeatherConfig();
+        config.setBreakerFailureThreshold(3);
+        config.setBreakerOpenMs(breakerOpenMs);
+        config.setProviderTimeoutMs(1000);
+        return new ProviderHealthTracker(config, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void opensAfterConsecutiveFailuresAndRejectsCalls() {
+        ProviderHealthTracker tracker = tracker(60_000);
+
+        tracker.recordFailure(PROVIDER, 10 * MS);
+        tracker.recordFailure(PROVIDER, 10 * MS);
+        assertThat(tracker.state(PROVIDER)).isEqualTo(BreakerState.CLOSED);
+
+        tracker.recordFailure(PROVIDER, 10 * MS);
+        assertThat(tracker.state(PROVIDER)).isEqualTo(BreakerState.OPEN);
+        assertThat(tracker.allowRequest(PROVIDER)).isFalse();
+    }
+
+    @Test
+    void successResetsTheFailureStreak() {
+        ProviderHealthTracker tracker = tracker(60_000);
+
+        tracker.recordFailure(PROVIDER, 10 * MS);
+        tracker.recordFailure(PROVIDER, 10 * MS);
+        tracker.recordSuccess(PROVIDER, 10 * MS);
+        tracker.recordFailure(PROVIDER, 10 * MS);
+        tracker.recordFailure(PROVIDER, 10 * MS);
+
+        assertThat(tracker.state(PROVIDER)).isEqualTo(BreakerState.CLOSED);
+        assertThat(tracker.allowRequest(PROVIDER)).isTrue();
+    }
+
+    @Test
+    void letsOneProbeThroughAfterTheCoolDown() throws InterruptedException {
+        ProviderHealthTracker tracker = tracker(COOL_DOWN_MS);
+        trip(tracker);
+
+        Thread.sleep(COOL_DOWN_MS + 20);
+        assertThat(tracker.allowRequest(PROVIDER)).isTrue();
+        assertThat(tracker.state(PROVIDER)).isEqualTo(BreakerState.HALF_OPEN);
+        assertThat(tracker.allowRequest(PROVIDER)).isFalse();
+    }
+
+    @Test
+    void successfulProbeClosesTheBreaker() throws InterruptedException {
+        ProviderHealthTracker tracker = tracker(COOL_DOWN_MS);
+        trip(tracker);
+        Thread.sleep(COOL_DOWN_MS + 20);
+        tracker.allowRequest(PROVIDER);
+
+        tracker.recordSuccess(PROVIDER, 10 * MS);
+
+        assertThat(tracker.state(PROVIDER)).isEqualTo(BreakerState.CLOSED);
+        assertThat(tracker.allowRequest(PROVIDER)).isTrue();
+    }
+
+    @Test
+    void failedProbeReopensTheBreaker() throws InterruptedException {
+        ProviderHealthTracker tracker = tracker(COOL_DOWN_MS);
+        trip(tracker);
+        Thread.sleep(COOL_DOWN_MS + 20);
+        tracker.allowRequest(PROVIDER);
+
+        tracker.recordFailure(PROVIDER, 10 * MS);
+
+        assertThat(tracker.state(PROVIDER)).isEqualTo(BreakerState.OPEN);
+        assertThat(tracker.allowRequest(PROVIDER)).isFalse();
+    }
+
+    @Test
+    void abandonedProbeFreesTheSlotWithoutClosing() throws InterruptedException {
+        ProviderHealthTracker tracker = tracker(COOL_DOWN_MS);
+        trip(tracker);
+        Thread.sleep(COOL_DOWN_MS + 20);
+        tracker.allowRequest(PROVIDER);
+
+        tracker.recordAbandoned(PROVIDER, 10 * MS);
+
+        assertThat(tracker.state(PROVIDER)).isEqualTo(BreakerState.HALF_OPEN);
+        assertThat(tracker.allowRequest(PROVIDER)).isTrue();
+    }
+
+    @Test
+    void abandonedCallsPastTheTimeoutCountAsFailures() {
+        ProviderHealthTracker tracker = tracker(60_000);
+
+        tracker.recordAbandoned(PROVIDER, 10 * MS);
+        tracker.recordAbandoned(PROVIDER, 10 * MS);
+        tracker.recordAbandoned(PROVIDER, 10 * MS);
+        assertThat(tracker.state(PROVIDER)).isEqualTo(BreakerState.CLOSED);
+
+        for (int i = 0; i < 3; i++) {
+            tracker.recordAbandoned(PROVIDER, 1000 * MS);
+        }
+        assertThat(tracker.state(PROVIDER)).isEqualTo(BreakerState.OPEN);
+    }
+
+    @Test
+    void ranksFasterHealthyProvidersFirst() {
+        ProviderHealthTracker tracker = tracker(60_000);
+        for (int i = 0; i < 3; i++) {
+            tracker.recordSuccess(WeatherProvider.OPEN_WEATHER_MAP, 900 * MS);
+            tracker.recordSuccess(WeatherProvider.WEATHER_API, 100 * MS);
+        }
+        trip(tracker);
+
+        List<WeatherProvider> ranked = tracker.rank(
+                List.of(WeatherProvider.OPEN_METEO, WeatherProvider.OPEN_WEATHER_MAP, WeatherProvider.WEATHER_API),
+                Function.identity());
+
+        assertThat(ranked).containsExactly(
+                WeatherProvider.WEATHER_API, WeatherProvider.OPEN_WEATHER_MAP, WeatherProvider.OPEN_METEO);
+    }
+
+    private static void trip(ProviderHealthTracker tracker) {
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure(PROVIDER, 10 * MS);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.backend.feature.weather;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int WAITERS = 4;
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareTheLeadersResult() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        List<Future<String>> results = startCallers("dhaka", () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "sunny";
+        });
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("sunny");
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void leaderFailureIsSharedWithEveryWaiter() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("all providers down");
+
+        List<Future<String>> results = startCallers("dhaka", () -> {
+            calls.incrementAndGet();
+            await(release);
+            throw failure;
+        });
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(2, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCause(failure);
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void finishedCallsAreNotReused() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("dhaka", calls::incrementAndGet);
+        assertThatThrownBy(() -> singleFlight.execute("dhaka", () -> { throw new IllegalStateException("down"); }))
+                .hasMessage("down");
+
+        assertThat(singleFlight.execute("dhaka", calls::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    void differentKeysDoNotWaitForEachOther() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> blocked = callers.submit(() -> singleFlight.execute("dhaka", () -> {
+            await(release);
+            return "dhaka";
+        }));
+        waitForInFlight(1);
+
+        assertThat(singleFlight.execute("sylhet", () -> "sylhet")).isEqualTo("sylhet");
+        release.countDown();
+        assertThat(blocked.get(2, TimeUnit.SECONDS)).isEqualTo("dhaka");
+    }
+
+    // The leader starts first and is held on its latch while the others join its call
+    private List<Future<String>> startCallers(String key, Supplier<String> call) throws InterruptedException {
+        List<Future<String>> results = new ArrayList<>();
+        results.add(callers.submit(() -> singleFlight.execute(key, call)));
+        waitForInFlight(1);
+        for (int i = 0; i < WAITERS; i++) {
+            results.add(callers.submit(() -> singleFlight.execute(key, call)));
+        }
+        // Give the waiters time to find the in-flight call before the leader is released
+        Thread.sleep(200);
+        return results;
+    }
+
+    private void waitForInFlight(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (singleFlight.inFlightCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(singleFlight.inFlightCount()).isEqualTo(count);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(2, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch never released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backend.feature.weather;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TokenBucketTest {
+
+    private static final long DAY_NANOS = TimeUnit.DAYS.toNanos(1);
+
+    @Test
+    void startsFullAndSpendsTakenPermits() {
+        TokenBucket bucket = new TokenBucket("day", 10, DAY_NANOS);
+
+        assertThat(bucket.has(10)).isTrue();
+        assertThat(bucket.has(11)).isFalse();
+
+        bucket.take(7);
+        assertThat(bucket.has(3)).isTrue();
+        assertThat(bucket.has(4)).isFalse();
+        assertThat(bucket.available()).isCloseTo(3, within(0.01));
+    }
+
+    @Test
+    void drainEmptiesTheBucket() {
+        TokenBucket bucket = new TokenBucket("day", 10, DAY_NANOS);
+
+        bucket.drain();
+
+        assertThat(bucket.has(1)).isFalse();
+        assertThat(bucket.available()).isLessThan(0.01);
+    }
+
+    @Test
+    void refillsContinuouslyButNeverPastCapacity() throws InterruptedException {
+        // 1000 tokens per 100 ms: about one token every 0.1 ms
+        TokenBucket bucket = new TokenBucket("burst", 1000, TimeUnit.MILLISECONDS.toNanos(100));
+        bucket.drain();
+
+        Thread.sleep(20);
+        assertThat(bucket.available()).isGreaterThan(100).isLessThanOrEqualTo(1000);
+
+        Thread.sleep(150);
+        assertThat(bucket.available()).isEqualTo(1000);
+    }
+
+    @Test
+    void keepsItsWindowName() {
+        assertThat(new TokenBucket("minute", 60, TimeUnit.MINUTES.toNanos(1)).window()).isEqualTo("minute");
+    }
+}
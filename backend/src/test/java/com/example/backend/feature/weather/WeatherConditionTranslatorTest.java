@@ -0,0 +1,47 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.service.chatbot.TranslationService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class WeatherConditionTranslatorTest {
+
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final WeatherConditionTranslator translator = new WeatherConditionTranslator(translationService);
+
+    @Test
+    void knownConditionsNeverReachTheTranslationService() {
+        assertThat(translator.fromText("  partly   CLOUDY ")).isEqualTo("আংশিক মেঘলা");
+        assertThat(translator.fromWmoCode(95)).isEqualTo("বজ্রসহ বৃষ্টি");
+        verifyNoInteractions(translationService);
+    }
+
+    @Test
+    void learnedLabelsAreTranslatedOnce() {
+        when(translationService.tryTranslateToBengali("Blowing dust")).thenReturn(Optional.of("উড়ন্ত ধুলা"));
+
+        assertThat(translator.fromText("Blowing dust")).isEqualTo("উড়ন্ত ধুলা");
+        assertThat(translator.fromText("blowing dust")).isEqualTo("উড়ন্ত ধুলা");
+        verify(translationService, times(1)).tryTranslateToBengali("Blowing dust");
+    }
+
+    @Test
+    void failedTranslationsAreNotRetriedOnEveryRequest() {
+        when(translationService.tryTranslateToBengali("Blowing dust"))
+                .thenReturn(Optional.of("MYMEMORY WARNING: YOU USED ALL AVAILABLE FREE TRANSLATIONS FOR TODAY"));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(translator.fromText("Blowing dust")).isEqualTo("Blowing dust");
+        }
+        verify(translationService, times(1)).tryTranslateToBengali("Blowing dust");
+        assertThat(translator.learnedCount()).isZero();
+    }
+}
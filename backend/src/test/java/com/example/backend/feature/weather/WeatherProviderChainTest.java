@@ -0,0 +1,176 @@
+package com.example.backend.feature.weather;
+
+import com.example.backend.config.WeatherConfig;
+import com.example.backend.exception.UnknownLocationException;
+import com.example.backend.feature.weather.ProviderHealthTracker.BreakerState;
+import com.example.backend.feature.weather.WeatherProviderChain.ProviderCall;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeatherProviderChainTest {
+
+    private WeatherConfig config;
+    private ProviderQuotaManager quotaManager;
+    private ProviderHealthTracker healthTracker;
+    private WeatherProviderChain chain;
+
+    @BeforeEach
+    void setUp() {
+        config = new WeatherConfig();
+        config.setRequestBudgetMs(2000);
+        config.setHedgeDelayMs(200);
+        config.setBreakerFailureThreshold(3);
+        config.setQuotas(new EnumMap<>(Map.of(
+                WeatherProvider.OPEN_WEATHER_MAP, new WeatherConfig.Quota(0, 100, 0),
+                WeatherProvider.OPEN_METEO, new WeatherConfig.Quota(0, 100, 0))));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        quotaManager = new ProviderQuotaManager(config, registry);
+        healthTracker = new ProviderHealthTracker(config, registry);
+        chain = new WeatherProviderChain(config, quotaManager, healthTracker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chain.shutdown();
+    }
+
+    @Test
+    void slowProviderIsHedgedAndTheFirstAnswerWins() {
+        long start = System.nanoTime();
+        String result = chain.fetch("current", List.of(
+                call(WeatherProvider.OPEN_WEATHER_MAP, () -> sleepThen(1500, "slow")),
+                call(WeatherProvider.OPEN_METEO, () -> "fast")));
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(elapsedMs(start)).isBetween(150L, 1000L);
+    }
+
+    @Test
+    void noHedgeWhenThePreferredProviderAnswersInTime() {
+        AtomicInteger backupCalls = new AtomicInteger();
+        String result = chain.fetch("current", List.of(
+                call(WeatherProvider.OPEN_WEATHER_MAP, () -> sleepThen(20, "preferred")),
+                call(WeatherProvider.OPEN_METEO, () -> {
+                    backupCalls.incrementAndGet();
+                    return "backup";
+                })));
+
+        assertThat(result).isEqualTo("preferred");
+        assertThat(backupCalls).hasValue(0);
+    }
+
+    @Test
+    void failureStartsTheNextProviderWithoutWaitingForTheHedgeDelay() {
+        config.setHedgeDelayMs(1500);
+        long start = System.nanoTime();
+        String result = chain.fetch("current", List.of(
+                call(WeatherProvider.OPEN_WEATHER_MAP, () -> { throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY); }),
+                call(WeatherProvider.OPEN_METEO, () -> "backup")));
+
+        assertThat(result).isEqualTo("backup");
+        assertThat(elapsedMs(start)).isLessThan(1000L);
+    }
+
+    @Test
+    void requestBudgetBoundsTheWholeLookup() {
+        config.setRequestBudgetMs(400);
+        config.setHedgeDelayMs(100);
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> chain.fetch("current", List.of(
+                call(WeatherProvider.OPEN_WEATHER_MAP, () -> sleepThen(3000, "late")),
+                call(WeatherProvider.OPEN_METEO, () -> sleepThen(3000, "late")))))
+                .hasMessageContaining("All weather providers failed");
+        assertThat(elapsedMs(start)).isBetween(350L, 1500L);
+    }
+
+    @Test
+    void providersWithAnOpenBreakerOrNoQuotaAreSkippedWithoutACall() {
+        for (int i = 0; i < config.getBreakerFailureThreshold(); i++) {
+            healthTracker.recordFailure(WeatherProvider.OPEN_WEATHER_MAP, 1_000_000);
+        }
+        quotaManager.exhaust(WeatherProvider.OPEN_METEO);
+        AtomicInteger skippedCalls = new AtomicInteger();
+
+        String result = chain.fetch("current", List.of(
+                call(WeatherProvider.OPEN_WEATHER_MAP, () -> String.valueOf(skippedCalls.incrementAndGet())),
+                call(WeatherProvider.OPEN_METEO, () -> String.valueOf(skippedCalls.incrementAndGet())),
+                call(WeatherProvider.WEATHER_API, () -> "third")));
+
+        assertThat(result).isEqualTo("third");
+        assertThat(skippedCalls).hasValue(0);
+    }
+
+    @Test
+    void unknownLocationsDoNotOpenBreakersOrSpendQuota() {
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> chain.fetch("current", List.of(
+                    call(WeatherProvider.OPEN_WEATHER_MAP, () -> { throw new UnknownLocationException("Atlantis"); }),
+                    call(WeatherProvider.OPEN_METEO, () -> { throw new HttpClientErrorException(HttpStatus.NOT_FOUND); }))))
+                    .isInstanceOf(RuntimeException.class);
+        }
+
+        assertThat(healthTracker.state(WeatherProvider.OPEN_WEATHER_MAP)).isEqualTo(BreakerState.CLOSED);
+        assertThat(healthTracker.state(WeatherProvider.OPEN_METEO)).isEqualTo(BreakerState.CLOSED);
+        assertThat(quotaManager.remaining(WeatherProvider.OPEN_WEATHER_MAP)).isEqualTo(100);
+        assertThat(quotaManager.remaining(WeatherProvider.OPEN_METEO)).isEqualTo(100);
+        assertThat(chain.fetch("current", List.of(call(WeatherProvider.OPEN_WEATHER_MAP, () -> "sunny"))))
+                .isEqualTo("sunny");
+    }
+
+    @Test
+    void providerFailuresStillOpenTheBreaker() {
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> chain.fetch("current", List.of(
+                    call(WeatherProvider.OPEN_WEATHER_MAP, () -> { throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY); }))))
+                    .isInstanceOf(RuntimeException.class);
+        }
+
+        assertThat(healthTracker.state(WeatherProvider.OPEN_WEATHER_MAP)).isEqualTo(BreakerState.OPEN);
+        assertThat(quotaManager.remaining(WeatherProvider.OPEN_WEATHER_MAP)).isEqualTo(97);
+    }
+
+    @Test
+    void rateLimitingCountsAgainstTheProvider() {
+        assertThatThrownBy(() -> chain.fetch("current", List.of(
+                call(WeatherProvider.OPEN_WEATHER_MAP, () -> {
+                    throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null);
+                }))))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(quotaManager.remaining(WeatherProvider.OPEN_WEATHER_MAP)).isZero();
+    }
+
+    private static String sleepThen(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("cancelled", e);
+        }
+        return value;
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static ProviderCall<String> call(WeatherProvider provider, Supplier<String> supplier) {
+        return new ProviderCall<>(provider, supplier);
+    }
+}